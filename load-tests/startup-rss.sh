@@ -0,0 +1,122 @@
+#!/usr/bin/env bash
+# Cold-start benchmark: time to first successful request and resident memory for the
+# JVM and native builds, against a throwaway PostgreSQL container.
+#
+# Build both variants first:
+#   ./gradlew build -x test                                    # build/quarkus-app/quarkus-run.jar
+#   ./gradlew build -x test -Dquarkus.native.enabled=true      # build/*-runner
+# Then:
+#   load-tests/startup-rss.sh            # both modes, 5 runs each
+#   RUNS=10 load-tests/startup-rss.sh native
+#
+# Knobs: RUNS (default 5), DB_PORT (default 55432), APP_PORT (default 8080),
+# WARMUP_REQUESTS sent before the second RSS sample (default 200).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+DB_PORT=${DB_PORT:-55432}
+APP_PORT=${APP_PORT:-8080}
+WARMUP_REQUESTS=${WARMUP_REQUESTS:-200}
+if [[ $# -gt 0 ]]; then
+    MODES=("$@")
+else
+    MODES=(jvm native)
+fi
+
+DB_CONTAINER=users-startup-bench-db
+URL="http://localhost:${APP_PORT}/users?size=1"
+
+export QUARKUS_DATASOURCE_JDBC_URL="jdbc:postgresql://localhost:${DB_PORT}/users"
+export QUARKUS_DATASOURCE_REACTIVE_URL="postgresql://localhost:${DB_PORT}/users"
+export QUARKUS_DATASOURCE_USERNAME=users
+export QUARKUS_DATASOURCE_PASSWORD=users
+export QUARKUS_HTTP_PORT=${APP_PORT}
+
+cleanup() {
+    [[ -n "${APP_PID:-}" ]] && kill "${APP_PID}" 2>/dev/null || true
+    docker rm -f "${DB_CONTAINER}" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+start_database() {
+    docker rm -f "${DB_CONTAINER}" >/dev/null 2>&1 || true
+    docker run -d --name "${DB_CONTAINER}" -p "${DB_PORT}:5432" \
+        -e POSTGRES_DB=users -e POSTGRES_USER=users -e POSTGRES_PASSWORD=users \
+        postgres:17-alpine >/dev/null
+    until docker exec "${DB_CONTAINER}" pg_isready -U users -d users >/dev/null 2>&1; do
+        sleep 0.2
+    done
+}
+
+command_for() {
+    case "$1" in
+        jvm)
+            [[ -f build/quarkus-app/quarkus-run.jar ]] || { echo "missing build/quarkus-app/quarkus-run.jar" >&2; return 1; }
+            echo "java -jar build/quarkus-app/quarkus-run.jar"
+            ;;
+        native)
+            local runner
+            runner=$(ls build/*-runner 2>/dev/null | head -n 1)
+            [[ -n "${runner}" ]] || { echo "missing build/*-runner" >&2; return 1; }
+            echo "${runner}"
+            ;;
+        *)
+            echo "unknown mode: $1" >&2
+            return 1
+            ;;
+    esac
+}
+
+rss_kb() {
+    awk '/VmRSS/ { print $2 }' "/proc/$1/status" 2>/dev/null || ps -o rss= -p "$1" | tr -d ' '
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Sets RESULT to "<time-to-first-request-ms> <rss-kb-after-first> <rss-kb-after-warmup>".
+run_once() {
+    local command=$1
+    local start end
+    start=$(date +%s%N)
+    ${command} >/dev/null 2>&1 &
+    APP_PID=$!
+    until curl -sf -o /dev/null "${URL}"; do
+        kill -0 "${APP_PID}" 2>/dev/null || { echo "application exited during startup" >&2; return 1; }
+        sleep 0.005
+    done
+    end=$(date +%s%N)
+    local first_request_ms=$(( (end - start) / 1000000 ))
+    local rss_first
+    rss_first=$(rss_kb "${APP_PID}")
+
+    for _ in $(seq "${WARMUP_REQUESTS}"); do
+        curl -sf -o /dev/null "${URL}"
+    done
+    local rss_warm
+    rss_warm=$(rss_kb "${APP_PID}")
+
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+    APP_PID=
+    RESULT="${first_request_ms} ${rss_first} ${rss_warm}"
+}
+
+start_database
+
+printf '%-8s %22s %18s %18s\n' mode time-to-first-req-ms rss-first-MiB rss-warm-MiB
+for mode in "${MODES[@]}"; do
+    command=$(command_for "${mode}")
+    results=()
+    for _ in $(seq "${RUNS}"); do
+        run_once "${command}"
+        results+=("${RESULT}")
+    done
+    ttfr=$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)
+    rss_first=$(printf '%s\n' "${results[@]}" | awk '{ print $2 }' | median)
+    rss_warm=$(printf '%s\n' "${results[@]}" | awk '{ print $3 }' | median)
+    printf '%-8s %22d %18d %18d\n' "${mode}" "${ttfr}" $((rss_first / 1024)) $((rss_warm / 1024))
+done
@@ -0,0 +1,45 @@
+// k6 load test for the user read endpoints.
+//
+// Compares execution modes by pointing BASE_PATH at the variant under test:
+//   k6 run -e BASE_PATH=/users          load-tests/users-read.js   # blocking (worker pool)
+//   k6 run -e BASE_PATH=/reactive/users load-tests/users-read.js   # reactive (event loop)
+//
+// Other knobs: BASE_URL (default http://localhost:8080), VUS (default 500), DURATION (default 60s).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BASE_PATH = __ENV.BASE_PATH || '/users';
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '10s', target: Number(__ENV.VUS || 500) },
+                { duration: __ENV.DURATION || '60s', target: Number(__ENV.VUS || 500) },
+                { duration: '5s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const page = http.get(`${BASE_URL}/users?cursor=&size=100`).json();
+    return { users: page.users.map((user) => ({ id: user.id, email: user.email })) };
+}
+
+export default function (data) {
+    const user = data.users[Math.floor(Math.random() * data.users.length)];
+    const responses = http.batch([
+        ['GET', `${BASE_URL}${BASE_PATH}/${user.id}`],
+        ['GET', `${BASE_URL}${BASE_PATH}/by-email/${encodeURIComponent(user.email)}`],
+        ['GET', `${BASE_URL}${BASE_PATH}?cursor=&size=20`],
+    ]);
+    if (BASE_PATH === '/users') {
+        responses.push(http.get(`${BASE_URL}/users/search?q=${encodeURIComponent(user.email.slice(0, 4))}&size=10`));
+    }
+    responses.forEach((response) => check(response, { 'status is 200': (r) => r.status === 200 }));
+}
@@ -0,0 +1,104 @@
+package org.stibodx.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.stibodx.entity.Address;
+import org.stibodx.entity.User;
+import org.stibodx.entity.UuidV7Generator;
+import org.stibodx.mapper.AddressMapper;
+import org.stibodx.mapper.AddressMapperImpl;
+import org.stibodx.mapper.UserMapper;
+import org.stibodx.mapper.UserMapperImpl;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures shared by the benchmarks: representative entities and mappers wired
+ * without a CDI container.
+ */
+final class BenchmarkData {
+
+    static final String CREATE_PAYLOAD = """
+        {
+          "firstName": "John",
+          "lastName": "Doe",
+          "dateOfBirth": "1990-01-15",
+          "email": "john.doe@example.com",
+          "job": "Software Developer",
+          "address": {
+            "street": "123 Main Street",
+            "city": "San Francisco",
+            "state": "CA",
+            "postalCode": "94105",
+            "country": "USA"
+          }
+        }
+        """;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Mirrors the quarkus.jackson.* settings in application.properties.
+     */
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+    }
+
+    static UserMapper userMapper() {
+        UserMapperImpl userMapper = new UserMapperImpl();
+        try {
+            // The generated CDI mapper expects its AddressMapper to be injected
+            for (Field field : UserMapperImpl.class.getDeclaredFields()) {
+                if (field.getType() == AddressMapper.class) {
+                    field.setAccessible(true);
+                    field.set(userMapper, new AddressMapperImpl());
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot wire UserMapperImpl", e);
+        }
+        return userMapper;
+    }
+
+    static User user(int i) {
+        User user = new User();
+        user.setId(UuidV7Generator.next());
+        user.setFirstName("First" + i);
+        user.setLastName("Last" + i);
+        user.setDateOfBirth(LocalDate.of(1990, 1 + i % 12, 1 + i % 28));
+        user.setEmail("user" + i + "@example.com");
+        user.setJob("Software Engineer");
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        user.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        Address address = new Address();
+        address.setId(UuidV7Generator.next());
+        address.setStreet(i + " Main Street");
+        address.setCity("San Francisco");
+        address.setState("CA");
+        address.setPostalCode("94105");
+        address.setCountry("USA");
+        address.setUser(user);
+        user.setAddress(address);
+        return user;
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,97 @@
+package org.stibodx.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.http.Cbor;
+import org.stibodx.mapper.UserMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire and CPU per page for each response encoding of a
+ * {@code PagedResult<UserDTO>}: JSON and CBOR, each with and without gzip.
+ * The {@code bytes} secondary result reports the encoded size of one page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncodingBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private PagedResult<UserDTO> page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkData.objectMapper();
+        cbor = Cbor.mapper();
+        UserMapper userMapper = BenchmarkData.userMapper();
+        List<UserDTO> users = BenchmarkData.users(pageSize).stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        page = new PagedResult<>(users, 0, pageSize, 10_000);
+    }
+
+    @Benchmark
+    public byte[] json(EncodedSize size) throws IOException {
+        return record(size, json.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] jsonGzip(EncodedSize size) throws IOException {
+        return record(size, gzip(json.writeValueAsBytes(page)));
+    }
+
+    @Benchmark
+    public byte[] cbor(EncodedSize size) throws IOException {
+        return record(size, cbor.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] cborGzip(EncodedSize size) throws IOException {
+        return record(size, gzip(cbor.writeValueAsBytes(page)));
+    }
+
+    private static byte[] record(EncodedSize size, byte[] encoded) {
+        // Last write wins; every invocation produces the same size
+        size.bytes = encoded.length;
+        return encoded;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,56 @@
+package org.stibodx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.User;
+import org.stibodx.mapper.UserMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping through the generated MapStruct mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private UserMapper userMapper;
+    private User user;
+    private List<User> page;
+    private UserDTO userDTO;
+
+    @Setup
+    public void setUp() {
+        userMapper = BenchmarkData.userMapper();
+        user = BenchmarkData.user(0);
+        page = BenchmarkData.users(100);
+        userDTO = userMapper.toDTO(user);
+    }
+
+    @Benchmark
+    public UserDTO userToDTO() {
+        return userMapper.toDTO(user);
+    }
+
+    @Benchmark
+    public List<UserDTO> pageToDTOs() {
+        List<UserDTO> dtos = new ArrayList<>(page.size());
+        for (User pageUser : page) {
+            dtos.add(userMapper.toDTO(pageUser));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public User dtoToEntity() {
+        return userMapper.toEntity(userDTO);
+    }
+}
@@ -0,0 +1,104 @@
+package org.stibodx.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.mapper.UserMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serialization of responses and deserialization of create payloads with the previous
+ * reflection-driven JSON-B (Yasson) path and with Jackson, which the REST layer now uses.
+ * Run with the gc profiler (the default in build.gradle) to compare allocations per
+ * response. The Jackson writers are bound to their type up front, as the REST layer does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    private Jsonb jsonb;
+    private ObjectWriter userWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader userReader;
+    private UserDTO user;
+    private PagedResult<UserDTO> page;
+    private byte[] createPayload;
+
+    @Setup
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        userWriter = objectMapper.writerFor(UserDTO.class);
+        pageWriter = objectMapper.writerFor(PagedResult.class);
+        userReader = objectMapper.readerFor(UserDTO.class);
+
+        UserMapper userMapper = BenchmarkData.userMapper();
+        user = userMapper.toDTO(BenchmarkData.user(0));
+        List<UserDTO> users = BenchmarkData.users(100).stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        page = new PagedResult<>(users, 0, 100, 10_000);
+        createPayload = BenchmarkData.CREATE_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public byte[] jsonbSerializeUser() {
+        return jsonb.toJson(user).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jacksonSerializeUser() throws IOException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] jsonbSerializePage() {
+        return jsonb.toJson(page).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jacksonSerializePage() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public int jacksonStreamPage() throws IOException {
+        // Writes UTF-8 straight to the output, as the REST message body writer does
+        ByteArrayOutputStream output = new ByteArrayOutputStream(32 * 1024);
+        pageWriter.writeValue(output, page);
+        return output.size();
+    }
+
+    @Benchmark
+    public UserDTO jsonbDeserializeCreatePayload() {
+        return jsonb.fromJson(BenchmarkData.CREATE_PAYLOAD, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO jacksonDeserializeCreatePayload() throws IOException {
+        return userReader.readValue(createPayload);
+    }
+}
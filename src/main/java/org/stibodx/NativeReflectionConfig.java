@@ -0,0 +1,37 @@
+package org.stibodx;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.BatchCreateResult;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.UuidV7Generator;
+import org.stibodx.service.UserVersion;
+
+/**
+ * Classes the native image must keep reflective access to because nothing in a REST
+ * signature or entity mapping tells Quarkus about them:
+ * <ul>
+ *   <li>DTOs written by the shared ObjectMapper and the CBOR mapper outside the REST
+ *   layer (user cache, export, {@code Response}-returning endpoints);</li>
+ *   <li>{@link UserVersion}, built by Hibernate from a {@code select new} query;</li>
+ *   <li>{@link UuidV7Generator}, instantiated by Hibernate through {@code @IdGeneratorType}.</li>
+ * </ul>
+ */
+@RegisterForReflection(targets = {
+    UserDTO.class,
+    AddressDTO.class,
+    PagedResult.class,
+    PagedResult.PaginationInfo.class,
+    BatchCreateResult.class,
+    BatchCreateResult.Item.class,
+    UserChangeEvent.class,
+    UserVersion.class,
+    UuidV7Generator.class
+})
+public final class NativeReflectionConfig {
+
+    private NativeReflectionConfig() {
+    }
+}
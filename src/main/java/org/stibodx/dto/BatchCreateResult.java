@@ -0,0 +1,51 @@
+package org.stibodx.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "BatchCreateResult",
+    description = "Per-item outcome of a bulk user creation, in request order"
+)
+public class BatchCreateResult {
+
+    @Schema(description = "Number of users created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "One entry per submitted user, in the same order as the request")
+    private List<Item> results;
+
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "BatchCreateItem", description = "Outcome for a single submitted user")
+    public static class Item {
+
+        @Schema(description = "Position of the user in the request", example = "0")
+        private int index;
+
+        @Schema(description = "Outcome for this item", example = "CREATED")
+        private Status status;
+
+        @Schema(description = "The created user, when status is CREATED", nullable = true)
+        private UserDTO user;
+
+        @Schema(description = "Why the item was rejected", nullable = true, example = "User with email john.doe@example.com already exists")
+        private String error;
+    }
+}
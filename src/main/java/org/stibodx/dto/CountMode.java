@@ -0,0 +1,18 @@
+package org.stibodx.dto;
+
+/**
+ * How the total element count of a paginated listing was produced.
+ */
+public enum CountMode {
+    /** Exact {@code COUNT(*)} on every request. */
+    EXACT,
+    /** Exact count served from a short-lived in-process cache. */
+    CACHED,
+    /**
+     * Planner estimate from {@code pg_class.reltuples} of the partial email index, which
+     * only holds live users; may drift from the real count between ANALYZE runs.
+     */
+    ESTIMATED,
+    /** No total was computed. */
+    NONE
+}
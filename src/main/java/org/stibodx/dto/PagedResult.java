@@ -22,6 +22,11 @@ public class PagedResult<T> {
         this.pagination = new PaginationInfo(page, size, totalElements);
     }
     
+    public PagedResult(List<T> users, PaginationInfo pagination) {
+        this.users = users;
+        this.pagination = pagination;
+    }
+    
     public List<T> getUsers() {
         return users;
     }
@@ -50,10 +55,10 @@ public class PagedResult<T> {
         private int size;
         
         @JsonProperty("totalElements")
-        private long totalElements;
+        private Long totalElements;
         
         @JsonProperty("totalPages")
-        private int totalPages;
+        private Integer totalPages;
         
         @JsonProperty("hasNext")
         private boolean hasNext;
@@ -61,6 +66,12 @@ public class PagedResult<T> {
         @JsonProperty("hasPrevious")
         private boolean hasPrevious;
         
+        @JsonProperty("nextCursor")
+        private String nextCursor;
+        
+        @JsonProperty("countMode")
+        private CountMode countMode;
+        
         public PaginationInfo() {}
         
         public PaginationInfo(int page, int size, long totalElements) {
@@ -72,6 +83,32 @@ public class PagedResult<T> {
             this.hasPrevious = page > 0;
         }
         
+        /**
+         * Offset mode where hasNext was determined by over-fetching one row, so it stays
+         * correct even when the total is estimated or was not computed at all.
+         */
+        public PaginationInfo(int page, int size, Long totalElements, CountMode countMode, boolean hasNext) {
+            this.page = page;
+            this.size = size;
+            this.totalElements = totalElements;
+            this.totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+            this.hasNext = hasNext;
+            this.hasPrevious = page > 0;
+            this.countMode = countMode;
+        }
+        
+        /**
+         * Keyset (cursor) mode: totals are not computed, so they are left null
+         * and omitted from the serialized response.
+         */
+        public PaginationInfo(int size, boolean hasNext, boolean hasPrevious, String nextCursor) {
+            this.size = size;
+            this.hasNext = hasNext;
+            this.hasPrevious = hasPrevious;
+            this.nextCursor = nextCursor;
+            this.countMode = CountMode.NONE;
+        }
+        
         // Getters and setters
         public int getPage() {
             return page;
@@ -89,19 +126,19 @@ public class PagedResult<T> {
             this.size = size;
         }
         
-        public long getTotalElements() {
+        public Long getTotalElements() {
             return totalElements;
         }
         
-        public void setTotalElements(long totalElements) {
+        public void setTotalElements(Long totalElements) {
             this.totalElements = totalElements;
         }
         
-        public int getTotalPages() {
+        public Integer getTotalPages() {
             return totalPages;
         }
         
-        public void setTotalPages(int totalPages) {
+        public void setTotalPages(Integer totalPages) {
             this.totalPages = totalPages;
         }
         
@@ -120,5 +157,21 @@ public class PagedResult<T> {
         public void setHasPrevious(boolean hasPrevious) {
             this.hasPrevious = hasPrevious;
         }
+        
+        public String getNextCursor() {
+            return nextCursor;
+        }
+        
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+        
+        public CountMode getCountMode() {
+            return countMode;
+        }
+        
+        public void setCountMode(CountMode countMode) {
+            this.countMode = countMode;
+        }
     }
 }
\ No newline at end of file
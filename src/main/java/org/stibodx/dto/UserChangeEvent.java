@@ -0,0 +1,39 @@
+package org.stibodx.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "UserChangeEvent",
+    description = "A committed change to a user, as delivered to downstream systems"
+)
+public class UserChangeEvent {
+
+    @Schema(description = "Outbox sequence number; increases with every recorded change", example = "4711")
+    private long id;
+
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private Type type;
+
+    @Schema(description = "Identifier of the changed user", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID userId;
+
+    @Schema(description = "When the change was recorded", example = "2024-01-15T10:30:00")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "The user after the change; absent for deletions", nullable = true)
+    private UserDTO user;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
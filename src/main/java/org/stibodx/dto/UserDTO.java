@@ -1,7 +1,7 @@
 package org.stibodx.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import jakarta.json.bind.annotation.JsonbPropertyOrder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -19,7 +19,6 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@JsonbPropertyOrder({"id", "firstName", "lastName", "dateOfBirth", "email", "address", "job", "createdAt", "updatedAt"})
 @JsonPropertyOrder({"id", "firstName", "lastName", "dateOfBirth", "email", "address", "job", "createdAt", "updatedAt"})
 @Schema(
     name = "User",
@@ -99,4 +98,10 @@ public class UserDTO {
         nullable = true
     )
     private AddressDTO address;
+
+    /**
+     * Optimistic lock version, the basis of the ETag. Not part of the representation.
+     */
+    @JsonIgnore
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package org.stibodx.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "UserLookupRequest",
+    description = "Users to resolve by id and/or email"
+)
+public class UserLookupRequest {
+
+    @Schema(description = "User identifiers", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> ids;
+
+    @Schema(description = "Email addresses, matched case-insensitively", example = "[\"jane.smith@example.com\"]")
+    private List<String> emails;
+}
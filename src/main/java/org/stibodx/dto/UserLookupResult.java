@@ -0,0 +1,27 @@
+package org.stibodx.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "UserLookupResult",
+    description = "Users found for a lookup, in request order, and the keys that matched no user"
+)
+public class UserLookupResult {
+
+    @Schema(description = "Found users in request order, ids before emails; a user matched by several keys appears once")
+    private List<UserDTO> users;
+
+    @Schema(description = "Requested ids without a user", example = "[\"999e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> missingIds;
+
+    @Schema(description = "Requested emails without a user, as sent", example = "[\"nobody@example.com\"]")
+    private List<String> missingEmails;
+}
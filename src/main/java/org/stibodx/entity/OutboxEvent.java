@@ -0,0 +1,73 @@
+package org.stibodx.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.stibodx.dto.UserChangeEvent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A user change recorded in the same transaction as the change itself and delivered
+ * afterwards by the outbox relay. Pending rows are found through the partial index
+ * idx_outbox_events_pending in db/indexes.sql; created_at serves SSE resume.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class OutboxEvent extends PanacheEntityBase {
+
+    /**
+     * Pooled sequence, so events written by bulk creates are inserted in JDBC batches.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private UserChangeEvent.Type type;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /** UserDTO as JSON; null for deletions. */
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /** Set when the row cannot be delivered at all; parked rows are skipped by the relay. */
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
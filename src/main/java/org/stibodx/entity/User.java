@@ -5,34 +5,56 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Past;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.annotations.SoftDeleteType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_job_created_at_id", columnList = "job, created_at, id"),
+    @Index(name = "idx_users_last_name_id", columnList = "last_name, id")
+})
+@SoftDelete(strategy = SoftDeleteType.TIMESTAMP, columnName = "deleted_at")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class User extends PanacheEntityBase {
 
+    /**
+     * Partial unique index over live users, declared in db/indexes.sql together with
+     * the other indexes that skip tombstones. A deleted user's email can be reused.
+     * <p>
+     * Hibernate cannot generate a partial index, so this is the only thing keeping
+     * emails unique and createUser does not check for duplicates first. Every
+     * environment must apply db/indexes.sql (here it runs as a load script after
+     * drop-and-create); SchemaGuard stops the application from starting without it.
+     */
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
     
     @NotBlank(message = "First name is required")
@@ -49,7 +71,7 @@ public class User extends PanacheEntityBase {
     
     @Email(message = "Email should be valid")
     @NotBlank(message = "Email is required")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     private String job;
@@ -63,15 +85,44 @@ public class User extends PanacheEntityBase {
     
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock. Concurrent updates of the same row fail instead of silently
+     * overwriting each other.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
     
     @PrePersist
     public void prePersist() {
+        this.email = normalizeEmail(this.email);
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
     
     @PreUpdate
     public void preUpdate() {
+        this.email = normalizeEmail(this.email);
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Forces an UPDATE of this row when only its address changed, so preUpdate stamps
+     * updatedAt and the version is incremented. preUpdate overwrites the cleared value
+     * before the statement is written.
+     */
+    public void touch() {
+        this.updatedAt = null;
+    }
+
+    /**
+     * Emails are stored trimmed and lower-cased, so {@link #EMAIL_CONSTRAINT}, the partial
+     * unique index on users.email for live rows (WHERE deleted_at IS NULL, created in
+     * db/indexes.sql), enforces case-insensitive uniqueness and serves lookups directly.
+     */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
 }
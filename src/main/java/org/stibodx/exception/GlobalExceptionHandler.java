@@ -1,5 +1,8 @@
 package org.stibodx.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.ws.rs.core.Response;
@@ -25,10 +28,21 @@ public class GlobalExceptionHandler {
         return errorResponse;
     }
 
+    /**
+     * Counts mapped exceptions as {@code users.errors}, tagged by exception type.
+     */
+    public static void countError(MeterRegistry meterRegistry, Exception exception) {
+        meterRegistry.counter("users.errors", "exception", exception.getClass().getSimpleName()).increment();
+    }
+
     @Provider
     public static class UserNotFoundExceptionMapper implements ExceptionMapper<UserNotFoundException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
         @Override
         public Response toResponse(UserNotFoundException exception) {
+            countError(meterRegistry, exception);
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(createErrorResponse("User not found", exception.getMessage()))
                     .build();
@@ -37,8 +51,12 @@ public class GlobalExceptionHandler {
 
     @Provider
     public static class InvalidEmailExceptionMapper implements ExceptionMapper<InvalidEmailException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
         @Override
         public Response toResponse(InvalidEmailException exception) {
+            countError(meterRegistry, exception);
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(createErrorResponse("Invalid email", exception.getMessage()))
                     .build();
@@ -47,18 +65,142 @@ public class GlobalExceptionHandler {
 
     @Provider
     public static class UserAlreadyExistsExceptionMapper implements ExceptionMapper<UserAlreadyExistsException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
         @Override
         public Response toResponse(UserAlreadyExistsException exception) {
+            countError(meterRegistry, exception);
             return Response.status(Response.Status.CONFLICT)
                     .entity(createErrorResponse("User already exists", exception.getMessage()))
                     .build();
         }
     }
 
+    @Provider
+    public static class InvalidCursorExceptionMapper implements ExceptionMapper<InvalidCursorException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidCursorException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid cursor", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class InvalidBatchExceptionMapper implements ExceptionMapper<InvalidBatchException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidBatchException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid batch", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class InvalidFieldExceptionMapper implements ExceptionMapper<InvalidFieldException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidFieldException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid fields", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class InvalidFilterExceptionMapper implements ExceptionMapper<InvalidFilterException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidFilterException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid filter", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class InvalidExportFormatExceptionMapper implements ExceptionMapper<InvalidExportFormatException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidExportFormatException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid export format", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class InvalidPatchExceptionMapper implements ExceptionMapper<InvalidPatchException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(InvalidPatchException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(createErrorResponse("Invalid patch", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    @Provider
+    public static class PreconditionFailedExceptionMapper implements ExceptionMapper<PreconditionFailedException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(PreconditionFailedException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.PRECONDITION_FAILED)
+                    .entity(createErrorResponse("Precondition failed", exception.getMessage()))
+                    .build();
+        }
+    }
+
+    /**
+     * Another transaction updated the same row between our read and our write.
+     */
+    @Provider
+    public static class OptimisticLockExceptionMapper implements ExceptionMapper<OptimisticLockException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
+        @Override
+        public Response toResponse(OptimisticLockException exception) {
+            countError(meterRegistry, exception);
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(createErrorResponse("Concurrent modification",
+                            "The user was modified concurrently, fetch it again and retry"))
+                    .build();
+        }
+    }
+
     @Provider
     public static class ConstraintViolationExceptionMapper implements ExceptionMapper<ConstraintViolationException> {
+        @Inject
+        MeterRegistry meterRegistry;
+
         @Override
         public Response toResponse(ConstraintViolationException exception) {
+            countError(meterRegistry, exception);
             Set<ConstraintViolation<?>> violations = exception.getConstraintViolations();
             Map<String, String> errors = new HashMap<>();
             
@@ -80,8 +222,12 @@ public class GlobalExceptionHandler {
 
     @Provider
     public static class GenericExceptionMapper implements ExceptionMapper<Exception> {
+        @Inject
+        MeterRegistry meterRegistry;
+
         @Override
         public Response toResponse(Exception exception) {
+            countError(meterRegistry, exception);
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(createErrorResponse("Internal server error", "An unexpected error occurred"))
                     .build();
@@ -0,0 +1,8 @@
+package org.stibodx.exception;
+
+public class InvalidExportFormatException extends RuntimeException {
+
+    public InvalidExportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.stibodx.exception;
+
+public class InvalidFieldException extends RuntimeException {
+
+    public InvalidFieldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.stibodx.exception;
+
+public class InvalidPatchException extends RuntimeException {
+
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package org.stibodx.exception;
+
+/**
+ * More changes were missed than a stream resume may replay. The client has to reload
+ * what it needs and continue from {@link #getResumeId()}.
+ */
+public class ReplayTruncatedException extends RuntimeException {
+
+    private final long resumeId;
+
+    public ReplayTruncatedException(String message, long resumeId) {
+        super(message);
+        this.resumeId = resumeId;
+    }
+
+    /**
+     * Id of the newest change published so far, or 0 when none was.
+     */
+    public long getResumeId() {
+        return resumeId;
+    }
+}
@@ -0,0 +1,32 @@
+package org.stibodx.http;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * CBOR (RFC 8949) representation of the read models, offered through Accept
+ * negotiation as a compact alternative to JSON for service-to-service callers.
+ * Property names and values match the JSON representation; nulls are omitted.
+ */
+public final class Cbor {
+
+    public static final String MEDIA_TYPE = "application/cbor";
+    public static final MediaType TYPE = new MediaType("application", "cbor");
+
+    private static final ObjectMapper MAPPER = CBORMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private Cbor() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+}
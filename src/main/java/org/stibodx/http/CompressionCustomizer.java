@@ -0,0 +1,101 @@
+package org.stibodx.http;
+
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.quarkus.vertx.http.HttpServerOptionsCustomizer;
+import io.vertx.core.http.HttpServerOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tunes the response compression enabled by {@code quarkus.http.enable-compression}.
+ * Small bodies are sent as-is because compressing them costs more CPU than it saves
+ * on the wire. Brotli is preferred over gzip when enabled and the brotli4j native
+ * library is on the classpath. {@link #coding(String)} tells resources which coding a
+ * response will get, so their entity tags can differ per coding.
+ */
+@ApplicationScoped
+public class CompressionCustomizer implements HttpServerOptionsCustomizer {
+
+    private static final Logger LOG = Logger.getLogger(CompressionCustomizer.class);
+
+    @ConfigProperty(name = "user.http.compression.min-size", defaultValue = "1024")
+    int minSize;
+
+    @ConfigProperty(name = "user.http.compression.brotli", defaultValue = "false")
+    boolean brotli;
+
+    /** Registered codings in order of preference; empty while compression is off. */
+    private volatile List<String> codings = List.of();
+
+    @Override
+    public void customizeHttpServer(HttpServerOptions options) {
+        if (!options.isCompressionSupported()) {
+            return;
+        }
+        options.setCompressionContentSizeThreshold(minSize);
+        List<String> registered = new ArrayList<>();
+        if (brotli) {
+            if (Brotli.isAvailable()) {
+                options.addCompressor(StandardCompressionOptions.brotli());
+                registered.add("br");
+            } else {
+                LOG.warn("user.http.compression.brotli is enabled but brotli4j is not available; using gzip only");
+            }
+        }
+        options.addCompressor(StandardCompressionOptions.gzip(options.getCompressionLevel(), 15, 8));
+        options.addCompressor(StandardCompressionOptions.deflate(options.getCompressionLevel(), 15, 8));
+        registered.add("gzip");
+        registered.add("deflate");
+        codings = List.copyOf(registered);
+    }
+
+    /**
+     * The content coding a response to this Accept-Encoding gets: the registered coding
+     * with the highest q-value, earlier ones winning ties, as the compressor picks it.
+     * Returns null when the body is sent as-is. Bodies under min-size are not compressed
+     * either, but are sent the same way for every request with this coding.
+     */
+    public String coding(String acceptEncoding) {
+        if (acceptEncoding == null || codings.isEmpty()) {
+            return null;
+        }
+        Map<String, Float> weights = new HashMap<>();
+        for (String value : acceptEncoding.split(",")) {
+            String[] parts = value.split(";");
+            float weight = 1f;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        weight = Float.parseFloat(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        weight = 0f;
+                    }
+                }
+            }
+            weights.merge(parts[0].trim().toLowerCase(Locale.ROOT), weight, Math::max);
+        }
+        String best = null;
+        float bestWeight = 0f;
+        for (String coding : codings) {
+            float weight = weights.getOrDefault(coding, weights.getOrDefault("*", 0f));
+            if (weight > bestWeight) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void customizeHttpsServer(HttpServerOptions options) {
+        customizeHttpServer(options);
+    }
+}
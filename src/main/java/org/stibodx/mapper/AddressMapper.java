@@ -3,6 +3,7 @@ package org.stibodx.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.stibodx.dto.AddressDTO;
 import org.stibodx.entity.Address;
 
@@ -11,5 +12,15 @@ public interface AddressMapper {
     AddressDTO toDTO(Address address);
     
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Address toEntity(AddressDTO addressDTO);
+
+    /**
+     * Copies the editable fields onto a managed address. Unchanged values leave the
+     * entity clean, so Hibernate skips the UPDATE or writes only the changed columns.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(AddressDTO addressDTO, @MappingTarget Address address);
 }
@@ -1,6 +1,7 @@
 package org.stibodx.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.MappingTarget;
@@ -10,9 +11,21 @@ import org.stibodx.entity.User;
 @Mapper(componentModel = MappingConstants.ComponentModel.CDI, uses = AddressMapper.class)
 public interface UserMapper {
 
+    @Mapping(target = "version", ignore = true)
     User toEntity(UserDTO userDTO);
     
     UserDTO toDTO(User user);
+
+    /**
+     * Copies the editable scalar fields onto a managed user. Server-maintained fields
+     * and the address are left alone; the caller reconciles the address separately.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "address", ignore = true)
+    void updateEntity(UserDTO userDTO, @MappingTarget User user);
     
     @AfterMapping
     default void setUserInAddress(@MappingTarget User user) {
@@ -20,4 +33,4 @@ public interface UserMapper {
             user.getAddress().setUser(user);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package org.stibodx.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+
+/**
+ * Records how many SQL statements each REST operation issued, as the
+ * {@code http.server.db.statements} distribution tagged by resource method.
+ */
+@Provider
+public class StatementCountFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final double[] BUCKETS = {0, 1, 2, 3, 5, 10, 20, 50, 100};
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        StatementCounter.start();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        int statements = StatementCounter.stop();
+        Method method = resourceInfo.getResourceMethod();
+        if (statements < 0 || method == null) {
+            return;
+        }
+        DistributionSummary.builder("http.server.db.statements")
+                .description("SQL statements issued per request")
+                .tag("operation", method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .serviceLevelObjectives(BUCKETS)
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
@@ -0,0 +1,56 @@
+package org.stibodx.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.stibodx.dto.UserChangeEvent;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch as one JSON array to {@code user.outbox.http.url}. Any status other
+ * than 2xx fails the batch, which the relay then retries.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "user.outbox.sink", stringValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "user.outbox.http.url")
+    URI url;
+
+    @ConfigProperty(name = "user.outbox.http.timeout", defaultValue = "PT5S")
+    Duration timeout;
+
+    private HttpClient client;
+
+    @PostConstruct
+    void init() {
+        client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public void publish(List<UserChangeEvent> events) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox sink " + url + " answered " + response.statusCode());
+        }
+    }
+}
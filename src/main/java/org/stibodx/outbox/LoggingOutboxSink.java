@@ -0,0 +1,24 @@
+package org.stibodx.outbox;
+
+import io.quarkus.arc.DefaultBean;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+import org.stibodx.dto.UserChangeEvent;
+import java.util.List;
+
+/**
+ * Stand-in used when no other sink is configured: logs each event at debug level.
+ */
+@DefaultBean
+@ApplicationScoped
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger LOG = Logger.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(List<UserChangeEvent> events) {
+        for (UserChangeEvent event : events) {
+            LOG.debugf("User %s %s (event %d)", event.getUserId(), event.getType(), event.getId());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package org.stibodx.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.OutboxEvent;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers outbox events to the {@link OutboxSink}. Each batch is locked with FOR UPDATE
+ * SKIP LOCKED, delivered, and marked published in one transaction, so several instances
+ * can relay side by side and a crash before commit only leads to a redelivery. When the
+ * sink fails the relay backs off exponentially before retrying.
+ * <p>
+ * There is no global order: ids come from a pooled sequence handed out per instance,
+ * a lower id can commit after a higher one was published, and other relays keep going
+ * while one backs off. Receivers that care should order by occurredAt per user.
+ * <p>
+ * Rows whose payload cannot be read are parked (parked_at set) instead of blocking the
+ * outbox; they stay in the table for inspection and are counted in users.outbox.parked.
+ */
+@ApplicationScoped
+public class OutboxRelay {
+
+    private static final Logger LOG = Logger.getLogger(OutboxRelay.class);
+
+    private static final String NEXT_BATCH = """
+            SELECT * FROM outbox_events
+            WHERE published_at IS NULL AND parked_at IS NULL
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String MARK_PUBLISHED = """
+            UPDATE outbox_events SET published_at = localtimestamp, attempts = attempts + 1
+            WHERE id IN (:ids)
+            """;
+    private static final String MARK_FAILED = """
+            UPDATE outbox_events SET attempts = attempts + 1, last_error = :error
+            WHERE id IN (:ids)
+            """;
+    private static final String MARK_PARKED = """
+            UPDATE outbox_events SET parked_at = localtimestamp, attempts = attempts + 1, last_error = :error
+            WHERE id = :id
+            """;
+    private static final String DELETE_PUBLISHED = """
+            DELETE FROM outbox_events WHERE id IN (
+                SELECT id FROM outbox_events
+                WHERE published_at < localtimestamp - make_interval(secs => :retentionSeconds)
+                LIMIT :chunkSize
+            )
+            """;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Inject
+    OutboxSink sink;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "user.outbox.relay.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.outbox.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "user.outbox.backoff.initial", defaultValue = "PT1S")
+    Duration initialBackoff;
+
+    @ConfigProperty(name = "user.outbox.backoff.max", defaultValue = "PT5M")
+    Duration maxBackoff;
+
+    @ConfigProperty(name = "user.outbox.retention", defaultValue = "P7D")
+    Duration retention;
+
+    private Counter delivered;
+    private Counter failures;
+    private Counter parked;
+
+    /**
+     * Guards the backoff state. A lock rather than synchronized: a relay run holds it
+     * across JDBC and the sink's I/O, which must not pin a virtual thread's carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private int consecutiveFailures;
+    private long retryAt;
+
+    @PostConstruct
+    void init() {
+        delivered = meterRegistry.counter("users.outbox.delivered");
+        failures = meterRegistry.counter("users.outbox.failures");
+        parked = meterRegistry.counter("users.outbox.parked");
+    }
+
+    @Scheduled(every = "${user.outbox.poll-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledRelay() {
+        if (enabled) {
+            relay();
+        }
+    }
+
+    @Scheduled(every = "${user.outbox.cleanup-every:1h}", delayed = "${user.outbox.cleanup-every:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledCleanup() {
+        if (enabled) {
+            deletePublished(retention);
+        }
+    }
+
+    /**
+     * Delivers pending events batch by batch until the outbox is drained or the sink
+     * fails. Does nothing while a backoff from an earlier failure is running.
+     *
+     * @return the number of events delivered
+     */
+    public int relay() {
+        lock.lock();
+        try {
+            if (consecutiveFailures > 0 && System.nanoTime() - retryAt < 0) {
+                return 0;
+            }
+            int total = 0;
+            while (true) {
+                BatchResult batch = QuarkusTransaction.requiringNew().call(this::relayBatch);
+                if (batch.failed()) {
+                    backOff();
+                    return total;
+                }
+                consecutiveFailures = 0;
+                total += batch.delivered();
+                if (batch.size() < batchSize) {
+                    return total;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes published events older than {@code retention}, in bounded chunks.
+     *
+     * @return the number of events removed
+     */
+    public long deletePublished(Duration retention) {
+        long total = 0;
+        int removed;
+        do {
+            removed = QuarkusTransaction.requiringNew().call(() -> OutboxEvent.getEntityManager()
+                    .createNativeQuery(DELETE_PUBLISHED)
+                    .setParameter("retentionSeconds", (double) retention.toSeconds())
+                    .setParameter("chunkSize", batchSize * 10)
+                    .executeUpdate());
+            total += removed;
+        } while (removed == batchSize * 10);
+        return total;
+    }
+
+    private BatchResult relayBatch() {
+        @SuppressWarnings("unchecked")
+        List<OutboxEvent> events = OutboxEvent.getEntityManager()
+                .createNativeQuery(NEXT_BATCH, OutboxEvent.class)
+                .setParameter("batchSize", batchSize)
+                .getResultList();
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0, false);
+        }
+
+        List<Long> ids = new ArrayList<>(events.size());
+        List<UserChangeEvent> changes = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                changes.add(toChangeEvent(event));
+                ids.add(event.getId());
+            } catch (RuntimeException e) {
+                // Retrying cannot fix an unreadable row; set it aside so the rest flows
+                LOG.errorf(e, "Parking outbox event %d, its payload cannot be read", event.getId());
+                parked.increment();
+                OutboxEvent.getEntityManager()
+                        .createNativeQuery(MARK_PARKED)
+                        .setParameter("error", truncate(String.valueOf(e)))
+                        .setParameter("id", event.getId())
+                        .executeUpdate();
+            }
+        }
+        if (changes.isEmpty()) {
+            return new BatchResult(events.size(), 0, false);
+        }
+
+        try {
+            sink.publish(changes);
+        } catch (Exception e) {
+            LOG.warnf(e, "Delivering %d outbox events from id %d failed", changes.size(), ids.get(0));
+            failures.increment();
+            OutboxEvent.getEntityManager()
+                    .createNativeQuery(MARK_FAILED)
+                    .setParameter("error", truncate(String.valueOf(e)))
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            return new BatchResult(events.size(), 0, true);
+        }
+
+        OutboxEvent.getEntityManager()
+                .createNativeQuery(MARK_PUBLISHED)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        delivered.increment(changes.size());
+        return new BatchResult(events.size(), changes.size(), false);
+    }
+
+    private void backOff() {
+        consecutiveFailures++;
+        // initial * 2^(failures - 1), capped; the shift is bounded so it cannot overflow
+        long delay = initialBackoff.toNanos() << Math.min(consecutiveFailures - 1, 20);
+        delay = Math.min(delay, maxBackoff.toNanos());
+        retryAt = System.nanoTime() + delay;
+    }
+
+    private UserChangeEvent toChangeEvent(OutboxEvent event) {
+        UserDTO user = null;
+        if (event.getPayload() != null) {
+            try {
+                user = objectMapper.readValue(event.getPayload(), UserDTO.class);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new UserChangeEvent(event.getId(), event.getType(), event.getUserId(), event.getCreatedAt(), user);
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * @param size rows read, which tells whether the outbox is drained
+     * @param delivered events handed to the sink, without parked rows
+     */
+    private record BatchResult(int size, int delivered, boolean failed) {
+    }
+}
@@ -0,0 +1,22 @@
+package org.stibodx.outbox;
+
+import org.stibodx.dto.UserChangeEvent;
+import java.util.List;
+
+/**
+ * Destination of the outbox relay. Provide a CDI bean implementing this interface to
+ * replace the default; set {@code user.outbox.sink=http} at build time to post the
+ * events to {@code user.outbox.http.url}.
+ * <p>
+ * Delivery is at least once: a batch is retried after a failure, and after a crash
+ * between delivery and commit, so receivers should ignore event ids they have seen.
+ * Batches are not globally ordered; see {@link OutboxRelay}.
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch, sorted by id within the batch. Returning normally marks every event in the
+     * batch as published; throwing leaves them all pending.
+     */
+    void publish(List<UserChangeEvent> events) throws Exception;
+}
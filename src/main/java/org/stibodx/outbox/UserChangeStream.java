@@ -0,0 +1,368 @@
+package org.stibodx.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgChannel;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.exception.ReplayTruncatedException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live feed of committed user changes for the SSE endpoint. One LISTEN connection per
+ * instance receives the outbox ids announced by the outbox_events trigger (see
+ * db/triggers.sql) only once their transaction commits. The rows are read in small
+ * batches on the reactive client and fanned out through a {@link BroadcastProcessor}.
+ * Nothing here blocks, and every subscriber has its own bounded buffer, so a slow
+ * client never holds up the others. When notifications may have been lost (the LISTEN
+ * connection reconnected or the loader failed) the outbox is read again from the newest
+ * change published.
+ */
+@ApplicationScoped
+public class UserChangeStream {
+
+    private static final Logger LOG = Logger.getLogger(UserChangeStream.class);
+
+    static final String CHANNEL = "user_changes";
+
+    private static final String SELECT_EVENTS =
+            "SELECT id, type, user_id, created_at, payload::text AS payload FROM outbox_events ";
+    private static final String REPLAY_CONDITION = """
+            WHERE id <> $1
+              AND (id > $1 OR created_at >= (SELECT created_at FROM outbox_events WHERE id = $1))
+            ORDER BY created_at, id
+            LIMIT $2
+            """;
+    private static final String CATCH_UP_CONDITION = """
+            WHERE (created_at, id) > ($1, $2)
+            ORDER BY created_at, id
+            LIMIT $3
+            """;
+    private static final int CATCH_UP_PAGE = 500;
+    /**
+     * Catch-up starts this long before the newest change published, for changes that
+     * were recorded earlier but committed later. What was already published is sent again.
+     */
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofSeconds(5);
+    /** Notification batches held while a load is in flight. */
+    private static final int LOADER_BUFFER = 1024;
+
+    /**
+     * What happens when a subscriber's buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * End the stream; the client reconnects with Last-Event-ID and the gap is replayed,
+         * or it is told to reset when the gap exceeds {@code user.stream.max-replay}.
+         */
+        DISCONNECT,
+        /** Keep the stream and discard the events that arrive while the buffer is full. */
+        DROP
+    }
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Pool client;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    Optional<String> reactiveUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    Optional<String> username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    Optional<String> password;
+
+    @ConfigProperty(name = "user.stream.buffer-size", defaultValue = "256")
+    int bufferSize;
+
+    @ConfigProperty(name = "user.stream.overflow", defaultValue = "disconnect")
+    OverflowPolicy overflowPolicy;
+
+    @ConfigProperty(name = "user.stream.max-replay", defaultValue = "1000")
+    int maxReplay;
+
+    private final BroadcastProcessor<UserChangeEvent> changes = BroadcastProcessor.create();
+    private final BroadcastProcessor<Long> notifications = BroadcastProcessor.create();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicBoolean listening = new AtomicBoolean();
+    private final AtomicReference<Position> latest =
+            new AtomicReference<>(new Position(LocalDateTime.now(), 0));
+
+    private PgSubscriber listener;
+    private Cancellable loader;
+    private Counter dropped;
+    private Counter disconnected;
+
+    void onStart(@Observes StartupEvent event) {
+        meterRegistry.gauge("users.stream.subscribers", subscribers);
+        dropped = meterRegistry.counter("users.stream.dropped");
+        disconnected = meterRegistry.counter("users.stream.disconnected");
+
+        startLoader();
+
+        listener = PgSubscriber.subscriber(vertx, connectOptions());
+        listener.reconnectPolicy(retries -> 1_000L);
+        PgChannel channel = listener.channel(CHANNEL);
+        channel.handler(payload -> notifications.onNext(Long.parseLong(payload)));
+        // Called on every LISTEN; after a reconnect, read what was announced while it was down
+        channel.subscribeHandler(() -> {
+            if (listening.getAndSet(true)) {
+                LOG.infof("Listening on %s again, catching up from the outbox", CHANNEL);
+                catchUp();
+            }
+        });
+        listener.connect().subscribe().with(
+                ignored -> LOG.debugf("Listening on %s", CHANNEL),
+                e -> LOG.errorf(e, "Could not listen on %s", CHANNEL));
+    }
+
+    /**
+     * Coalesces notifications so a bulk create costs one query per 100 events. The timed
+     * grouping emits whether or not a load is still running, so batches are buffered in
+     * front of the loads. If the pipeline fails anyway it is restarted, and the changes
+     * it may have missed are read again from the outbox.
+     */
+    private void startLoader() {
+        loader = notifications
+                .group().intoLists().of(100, Duration.ofMillis(10))
+                .onOverflow().buffer(LOADER_BUFFER)
+                .onItem().transformToUniAndConcatenate(ids -> load(ids)
+                        .onFailure().invoke(e -> {
+                            LOG.warnf(e, "Loading %d user change events failed", ids.size());
+                            catchUp();
+                        })
+                        .onFailure().recoverWithItem(List.of()))
+                .onFailure().invoke(e -> {
+                    LOG.warnf(e, "User change loader failed, restarting");
+                    catchUp();
+                })
+                .onFailure().retry().withBackOff(Duration.ofSeconds(1)).indefinitely()
+                .subscribe().with(events -> events.forEach(this::publish));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (listener != null) {
+            listener.closeAndForget();
+        }
+        if (loader != null) {
+            loader.cancel();
+        }
+    }
+
+    /**
+     * Changes committed from now on. With {@code lastEventId}, the changes recorded
+     * since that event are replayed from the outbox first, up to {@code user.stream.max-replay}.
+     * Delivery is at least once; clients should skip ids they have already seen.
+     */
+    public Multi<UserChangeEvent> stream(Long lastEventId) {
+        Multi<UserChangeEvent> source = lastEventId == null ? changes : resumeAfter(lastEventId);
+        return withOverflowPolicy(source)
+                .onSubscription().invoke(() -> subscribers.incrementAndGet())
+                .onTermination().invoke(subscribers::decrementAndGet);
+    }
+
+    /**
+     * The whole replay, then the live changes. Live changes are subscribed to before the
+     * replay is read, so nothing committed in between is lost, and held until the replay
+     * has been sent, so a client never sees a live change ahead of an older replayed one
+     * and cannot resume past a change it has not received. Held changes that were part of
+     * the replay are dropped.
+     */
+    private Multi<UserChangeEvent> resumeAfter(long lastEventId) {
+        return Multi.createFrom().deferred(() -> {
+            UnicastProcessor<UserChangeEvent> held = UnicastProcessor.create();
+            Cancellable subscription = changes.subscribe().with(held::onNext, held::onError, held::onComplete);
+
+            Set<Long> seen = ConcurrentHashMap.newKeySet();
+            Multi<UserChangeEvent> replay = replay(lastEventId)
+                    .onItem().transformToMulti(events -> events.size() > maxReplay
+                            ? Multi.createFrom().<UserChangeEvent>failure(new ReplayTruncatedException(
+                                    "More than " + maxReplay + " changes since event " + lastEventId,
+                                    latest.get().id()))
+                            : Multi.createFrom().iterable(events))
+                    .onItem().invoke(event -> seen.add(event.getId()));
+            return Multi.createBy().concatenating()
+                    .streams(replay, held.select().where(event -> !seen.contains(event.getId())))
+                    .onTermination().invoke(subscription::cancel);
+        });
+    }
+
+    /**
+     * Hands a change to the live subscribers. Used by the LISTEN pipeline and catch-up,
+     * which run on different threads, hence synchronized.
+     */
+    synchronized void publish(UserChangeEvent event) {
+        if (event.getOccurredAt() != null) {
+            Position position = new Position(event.getOccurredAt(), event.getId());
+            latest.accumulateAndGet(position, Position::max);
+        }
+        changes.onNext(event);
+    }
+
+    /**
+     * Every subscriber gets its own buffer of {@code user.stream.buffer-size} events.
+     */
+    private Multi<UserChangeEvent> withOverflowPolicy(Multi<UserChangeEvent> source) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            return Multi.createFrom().deferred(() -> {
+                UnicastProcessor<UserChangeEvent> buffer = UnicastProcessor.create(new DroppingQueue(bufferSize), null);
+                Cancellable subscription = source.subscribe().with(buffer::onNext, buffer::onError, buffer::onComplete);
+                return buffer.onTermination().invoke(subscription::cancel);
+            });
+        }
+        return source.onOverflow().buffer(bufferSize)
+                .onFailure().invoke(e -> disconnected.increment());
+    }
+
+    /**
+     * Reads the changes recorded since the newest one published, page by page, after the
+     * LISTEN connection or the loader lost notifications.
+     */
+    private void catchUp() {
+        Position from = latest.get();
+        catchUp(new Position(from.createdAt().minus(CATCH_UP_OVERLAP), 0));
+    }
+
+    private void catchUp(Position after) {
+        client.preparedQuery(SELECT_EVENTS + CATCH_UP_CONDITION)
+                .execute(Tuple.of(after.createdAt(), after.id(), CATCH_UP_PAGE))
+                .onItem().transform(this::toEvents)
+                .subscribe().with(events -> {
+                    events.forEach(this::publish);
+                    if (events.size() == CATCH_UP_PAGE) {
+                        UserChangeEvent last = events.get(events.size() - 1);
+                        catchUp(new Position(last.getOccurredAt(), last.getId()));
+                    }
+                }, e -> LOG.warnf(e, "Catching up on user changes after %s failed", after.createdAt()));
+    }
+
+    /**
+     * Ids come from a pooled sequence, so with several instances a later change can have
+     * a lower id. Changes recorded at or after the last event are replayed as well.
+     */
+    private Uni<List<UserChangeEvent>> replay(long lastEventId) {
+        // One row more than allowed tells a complete replay from a truncated one
+        return client.preparedQuery(SELECT_EVENTS + REPLAY_CONDITION)
+                .execute(Tuple.of(lastEventId, maxReplay + 1))
+                .onItem().transform(this::toEvents);
+    }
+
+    private Uni<List<UserChangeEvent>> load(List<Long> ids) {
+        return client.preparedQuery(SELECT_EVENTS + "WHERE id = ANY($1) ORDER BY id")
+                .execute(Tuple.of(ids.toArray(new Long[0])))
+                .onItem().transform(this::toEvents);
+    }
+
+    private List<UserChangeEvent> toEvents(RowSet<Row> rows) {
+        List<UserChangeEvent> events = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            try {
+                events.add(new UserChangeEvent(
+                        row.getLong("id"),
+                        UserChangeEvent.Type.valueOf(row.getString("type")),
+                        row.getUUID("user_id"),
+                        row.getLocalDateTime("created_at"),
+                        toUser(row.getString("payload"))));
+            } catch (RuntimeException e) {
+                // The relay parks such rows; one of them must not fail the whole page
+                LOG.warnf(e, "Skipping outbox event %d, its payload cannot be read", row.getLong("id"));
+            }
+        }
+        return events;
+    }
+
+    private UserDTO toUser(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, UserDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The LISTEN connection lives outside the pool, so it is configured from the same
+     * datasource properties.
+     */
+    private PgConnectOptions connectOptions() {
+        String url = reactiveUrl.orElseThrow(() ->
+                new IllegalStateException("quarkus.datasource.reactive.url is required for the user change stream"));
+        PgConnectOptions options = PgConnectOptions.fromUri(url.replaceFirst("^vertx-reactive:", ""));
+        username.ifPresent(options::setUser);
+        password.ifPresent(options::setPassword);
+        return options;
+    }
+
+    /**
+     * Place of a change in (created_at, id) order, the order catch-up reads in.
+     */
+    private record Position(LocalDateTime createdAt, long id) {
+
+        static Position max(Position a, Position b) {
+            int order = a.createdAt.compareTo(b.createdAt);
+            return order > 0 || (order == 0 && a.id >= b.id) ? a : b;
+        }
+    }
+
+    /**
+     * Bounded buffer for the drop policy: a change that finds it full is discarded and
+     * counted instead of failing the subscriber.
+     */
+    private final class DroppingQueue extends ArrayBlockingQueue<UserChangeEvent> {
+
+        DroppingQueue(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(UserChangeEvent event) {
+            if (!super.offer(event)) {
+                dropped.increment();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.stibodx.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.OutboxEvent;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records user changes in the outbox table. Mutators call this inside their own
+ * transaction, so an event is stored if and only if the change commits.
+ */
+@ApplicationScoped
+public class UserOutbox {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void record(UserChangeEvent.Type type, UUID userId, UserDTO user) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setUserId(userId);
+        event.setPayload(user != null ? toJson(user) : null);
+        event.setCreatedAt(LocalDateTime.now());
+        event.persist();
+    }
+
+    private String toJson(UserDTO user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
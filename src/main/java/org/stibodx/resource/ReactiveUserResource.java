@@ -0,0 +1,108 @@
+package org.stibodx.resource;
+
+import io.smallrye.mutiny.Uni;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.service.ReactiveUserService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of the read endpoints of {@link UserResource}. Methods return
+ * {@link Uni} and run on the event loop instead of a worker thread.
+ */
+@Path("/reactive/users")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "users-reactive", description = "Non-blocking user read operations")
+public class ReactiveUserResource {
+
+    @Inject
+    ReactiveUserService reactiveUserService;
+
+    @GET
+    @Path("/{id}")
+    @Operation(
+        summary = "Get user by ID (non-blocking)",
+        description = "Same as GET /users/{id}, served on the event loop by the reactive PostgreSQL client"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "User retrieved successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = UserDTO.class))
+        ),
+        @APIResponse(responseCode = "404", description = "User not found")
+    })
+    public Uni<UserDTO> getUserById(
+        @Parameter(
+            description = "The unique identifier of the user",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            schema = @Schema(type = SchemaType.STRING, format = "uuid")
+        )
+        @PathParam("id") UUID id) {
+        return reactiveUserService.findById(id);
+    }
+
+    @GET
+    @Operation(
+        summary = "Get users with keyset pagination (non-blocking)",
+        description = "Same as GET /users?cursor=..., served on the event loop by the reactive PostgreSQL client"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Page of users retrieved successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = PagedResult.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Malformed cursor")
+    })
+    public Uni<PagedResult<UserDTO>> getAllUsers(
+        @Parameter(
+            description = "Number of items per page (1-100)",
+            example = "10",
+            schema = @Schema(type = SchemaType.INTEGER, minimum = "1", maximum = "100", defaultValue = "10")
+        )
+        @QueryParam("size") @DefaultValue("10") int size,
+
+        @Parameter(description = "Opaque keyset cursor; omit for the first page, then pass pagination.nextCursor")
+        @QueryParam("cursor") String cursor) {
+        return reactiveUserService.findAllByCursor(cursor, size);
+    }
+
+    @GET
+    @Path("/by-email/{email}")
+    @Operation(
+        summary = "Get user by email (non-blocking)",
+        description = "Same as GET /users/by-email/{email}, served on the event loop by the reactive PostgreSQL client"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "User retrieved successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = UserDTO.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Invalid email format"),
+        @APIResponse(responseCode = "404", description = "User not found")
+    })
+    public Uni<UserDTO> getUserByEmail(
+        @Parameter(
+            description = "The email address of the user",
+            required = true,
+            example = "john.doe@example.com",
+            schema = @Schema(type = SchemaType.STRING, format = "email")
+        )
+        @PathParam("email") String email) {
+        return reactiveUserService.findByEmail(email);
+    }
+}
@@ -9,25 +9,95 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.stibodx.dto.UserChangeEvent;
 import org.stibodx.dto.UserDTO;
+import org.stibodx.dto.UserLookupRequest;
+import org.stibodx.dto.UserLookupResult;
 import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.BatchCreateResult;
+import org.stibodx.exception.InvalidCursorException;
+import org.stibodx.exception.ReplayTruncatedException;
+import org.stibodx.http.Cbor;
+import org.stibodx.http.CompressionCustomizer;
+import org.stibodx.outbox.UserChangeStream;
+import org.stibodx.service.ExportFormat;
+import org.stibodx.service.JsonMergePatch;
+import org.stibodx.service.UserExporter;
+import org.stibodx.service.UserField;
+import org.stibodx.service.UserFilter;
+import org.stibodx.service.UserProjectionService;
+import org.stibodx.service.UserSearchService;
+import org.stibodx.service.UserCache;
 import org.stibodx.service.UserService;
+import org.stibodx.service.UserVersion;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.Variant;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.RestResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Blocking user endpoints. createUser, lookupUsers, getUserById, getAllUsers, searchUsers, getUserByEmail,
+ * replaceUser, patchUser and deleteUser run on virtual threads; set quarkus.virtual-threads.enabled=false
+ * to run them on the worker pool.
+ * <p>
+ * Endpoints with a single payload type declare it (rather than {@link Response}) so Quarkus
+ * can generate reflection-free Jackson serializers for UserDTO, AddressDTO and PagedResult
+ * at build time; the generated serializers are registered on the shared ObjectMapper and
+ * also serve the {@link Response}-returning endpoints.
+ * <p>
+ * streamUsers is non-blocking: it subscribes to {@link UserChangeStream} on the event loop.
+ */
 @Path("/users")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "users", description = "User management operations")
 public class UserResource {
 
+    /** Representations differ by media type and, through compression, by content coding. */
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
     @Inject
     UserService userService;
 
+    @Inject
+    UserExporter userExporter;
+
+    @Inject
+    UserProjectionService userProjectionService;
+
+    @Inject
+    UserSearchService userSearchService;
+
+    @Inject
+    UserChangeStream userChangeStream;
+
+    @Inject
+    CompressionCustomizer compression;
+
+    @ConfigProperty(name = "user.stream.heartbeat", defaultValue = "PT15S")
+    Duration streamHeartbeat;
+
     @POST
     @Operation(
         summary = "Create a new user",
@@ -112,7 +182,8 @@ public class UserResource {
             )
         )
     })
-    public Response createUser(
+    @RunOnVirtualThread
+    public RestResponse<UserDTO> createUser(
         @Valid 
         @Schema(
             description = "User data for creation",
@@ -135,13 +206,147 @@ public class UserResource {
         )
         UserDTO userDTO) {
         UserDTO createdUser = userService.createUser(userDTO);
-        return Response.status(Response.Status.CREATED)
-                .entity(createdUser)
-                .build();
+        return RestResponse.status(Response.Status.CREATED, createdUser);
+    }
+
+    @POST
+    @Path("/batch")
+    @Operation(
+        summary = "Create users in bulk",
+        description = "Creates up to user.batch.max-size users in a single transaction. Existing emails are checked with one query and inserts are sent as JDBC batches. " +
+                      "Each item is reported individually; invalid or duplicate items are skipped without failing the rest of the batch."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Batch processed; see per-item results",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = BatchCreateResult.class),
+                examples = @ExampleObject(
+                    name = "batch_result",
+                    summary = "Batch with one duplicate",
+                    value = """
+                    {
+                      "created": 1,
+                      "failed": 1,
+                      "results": [
+                        {
+                          "index": 0,
+                          "status": "CREATED",
+                          "user": {
+                            "id": "123e4567-e89b-12d3-a456-426614174000",
+                            "firstName": "John",
+                            "lastName": "Doe",
+                            "email": "john.doe@example.com"
+                          }
+                        },
+                        {
+                          "index": 1,
+                          "status": "CONFLICT",
+                          "error": "User with email jane.smith@example.com already exists"
+                        }
+                      ]
+                    }
+                    """
+                )
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Empty or oversized batch",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                examples = @ExampleObject(
+                    name = "batch_too_large",
+                    summary = "Batch too large",
+                    value = """
+                    {
+                      "error": "Invalid batch",
+                      "message": "Batch cannot exceed 5000 users"
+                    }
+                    """
+                )
+            )
+        ),
+        @APIResponse(responseCode = "409", description = "An email in the batch was taken by a concurrent create; nothing was created")
+    })
+    public BatchCreateResult createUsers(
+        @Schema(description = "Users to create, in order")
+        List<UserDTO> userDTOs) {
+        return userService.createUsers(userDTOs);
+    }
+
+    @POST
+    @Path("/_mget")
+    @Operation(
+        summary = "Get many users by id or email",
+        description = "Resolves up to user.lookup.max-keys ids and emails with a single query that also loads the addresses. " +
+                      "Users are returned in request order, ids before emails, and keys without a user are listed as missing."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lookup result",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = UserLookupResult.class),
+                examples = @ExampleObject(
+                    name = "lookup_result",
+                    summary = "One user found, one email missing",
+                    value = """
+                    {
+                      "users": [
+                        {
+                          "id": "123e4567-e89b-12d3-a456-426614174000",
+                          "firstName": "John",
+                          "lastName": "Doe",
+                          "email": "john.doe@example.com"
+                        }
+                      ],
+                      "missingIds": [],
+                      "missingEmails": ["nobody@example.com"]
+                    }
+                    """
+                )
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "No keys, too many keys, or a null key",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                examples = @ExampleObject(
+                    name = "lookup_too_large",
+                    summary = "Too many keys",
+                    value = """
+                    {
+                      "error": "Invalid batch",
+                      "message": "Lookup cannot exceed 1000 keys"
+                    }
+                    """
+                )
+            )
+        )
+    })
+    @RunOnVirtualThread
+    public UserLookupResult lookupUsers(
+        @Schema(
+            description = "Ids and/or emails to resolve",
+            example = """
+            {
+              "ids": ["123e4567-e89b-12d3-a456-426614174000"],
+              "emails": ["john.doe@example.com", "nobody@example.com"]
+            }
+            """
+        )
+        UserLookupRequest request) {
+        return userService.findAllByKeys(request);
     }
 
     @GET
     @Path("/{id}")
+    @Produces({MediaType.APPLICATION_JSON, Cbor.MEDIA_TYPE})
     @Operation(
         summary = "Get user by ID",
         description = "Retrieves a specific user by their unique identifier"
@@ -212,6 +417,7 @@ public class UserResource {
             )
         )
     })
+    @RunOnVirtualThread
     public Response getUserById(
         @Parameter(
             description = "The unique identifier of the user",
@@ -219,15 +425,42 @@ public class UserResource {
             example = "123e4567-e89b-12d3-a456-426614174000",
             schema = @Schema(type = SchemaType.STRING, format = "uuid")
         )
-        @PathParam("id") UUID id) {
-        UserDTO user = userService.findById(id);
-        return Response.ok(user).build();
+        @PathParam("id") UUID id,
+
+        @Parameter(
+            description = "Comma-separated list of properties to return, e.g. id,email,firstName,lastName. Only these columns are read from the database.",
+            example = "id,email,firstName,lastName"
+        )
+        @QueryParam("fields") String fields,
+
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        Set<UserField> projection = UserField.parse(fields);
+        MediaType mediaType = negotiate(request);
+        if (hasValidators(headers)) {
+            Response.ResponseBuilder notModified = evaluatePreconditions(request,
+                    userService.findVersionById(id), projection, mediaType, coding(headers));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+        if (projection != null) {
+            UserProjectionService.Projection user = userProjectionService.findById(id, projection);
+            return conditional(Response.ok(user.user(), mediaType), user.version(), projection, mediaType,
+                    coding(headers));
+        }
+        UserCache.CachedUser user = userService.findCachedById(id);
+        // JSON is served from the cached bytes; CBOR is encoded from the cached DTO
+        Object body = Cbor.TYPE.isCompatible(mediaType) ? user.user() : user.json();
+        return conditional(Response.ok(body, mediaType), user.version(), null, mediaType, coding(headers));
     }
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, Cbor.MEDIA_TYPE})
     @Operation(
         summary = "Get all users with pagination",
-        description = "Retrieves a paginated list of all users in the system. Use page and size parameters to control pagination."
+        description = "Retrieves a paginated list of all users in the system. Use page and size parameters to control pagination. " +
+                      "For deep traversal pass the cursor parameter (empty for the first page, then pagination.nextCursor) to switch to keyset pagination, which skips total counts and keeps latency flat."
     )
     @APIResponses({
         @APIResponse(
@@ -267,7 +500,8 @@ public class UserResource {
                         "totalElements": 25,
                         "totalPages": 3,
                         "hasNext": true,
-                        "hasPrevious": false
+                        "hasPrevious": false,
+                        "countMode": "EXACT"
                       }
                     }
                     """
@@ -291,6 +525,7 @@ public class UserResource {
             )
         )
     })
+    @RunOnVirtualThread
     public Response getAllUsers(
         @Parameter(
             description = "Page number (0-based)",
@@ -304,14 +539,259 @@ public class UserResource {
             example = "10",
             schema = @Schema(type = SchemaType.INTEGER, minimum = "1", maximum = "100", defaultValue = "10")
         )
-        @QueryParam("size") @DefaultValue("10") int size) {
+        @QueryParam("size") @DefaultValue("10") int size,
+
+        @Parameter(
+            description = "Opaque keyset cursor. Empty for the first page, then the nextCursor of the previous page. When present, page is ignored.",
+            example = "MjAyNC0wMS0xNVQxMDozMDowMHwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA"
+        )
+        @QueryParam("cursor") String cursor,
+
+        @Parameter(
+            description = "Whether to compute totalElements/totalPages. Set to false to skip the count query; pagination.countMode reports how the total was produced.",
+            example = "true",
+            schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "true")
+        )
+        @QueryParam("includeTotal") @DefaultValue("true") boolean includeTotal,
+
+        @Parameter(
+            description = "Comma-separated list of properties to return, e.g. id,email,firstName,lastName. Only these columns are read from the database.",
+            example = "id,email,firstName,lastName"
+        )
+        @QueryParam("fields") String fields,
+
+        @Parameter(description = "Exact job title", example = "Developer")
+        @QueryParam("job") String job,
+
+        @Parameter(description = "Exact address country", example = "USA")
+        @QueryParam("country") String country,
+
+        @Parameter(description = "Exact address city", example = "San Francisco")
+        @QueryParam("city") String city,
+
+        @Parameter(description = "Only users created at or after this ISO date or date-time", example = "2024-01-01")
+        @QueryParam("createdFrom") String createdFrom,
+
+        @Parameter(description = "Only users created before this ISO date or date-time", example = "2024-02-01T00:00:00")
+        @QueryParam("createdTo") String createdTo,
+
+        @Parameter(description = "Case-insensitive prefix of the first or last name", example = "jo")
+        @QueryParam("name") String name,
+
+        @Parameter(
+            description = "Sort key: createdAt, lastName or email, prefix with '-' for descending. Cursor pagination only supports createdAt.",
+            example = "-createdAt",
+            schema = @Schema(type = SchemaType.STRING, defaultValue = "createdAt")
+        )
+        @QueryParam("sort") String sort) {
         
-        PagedResult<UserDTO> pagedUsers = userService.findAllPaginated(page, size);
+        UserFilter filter = UserFilter.of(job, country, city, createdFrom, createdTo, name, sort);
+        Set<UserField> projection = UserField.parse(fields);
+        if (projection != null) {
+            PagedResult<Map<String, Object>> projectedUsers = cursor != null
+                    ? userProjectionService.findAllByCursor(cursor, size, filter, projection)
+                    : userProjectionService.findAllPaginated(page, size, includeTotal, filter, projection);
+            return Response.ok(projectedUsers).build();
+        }
+        PagedResult<UserDTO> pagedUsers = cursor != null
+                ? userService.findAllByCursor(cursor, size, filter)
+                : userService.findAllPaginated(page, size, includeTotal, filter);
         return Response.ok(pagedUsers).build();
     }
 
+    @GET
+    @Path("/search")
+    @Produces({MediaType.APPLICATION_JSON, Cbor.MEDIA_TYPE})
+    @Operation(
+        summary = "Search users",
+        description = "Type-ahead search over first name, last name, email and job. Results are ranked by trigram word similarity, " +
+                      "paginated without a total, and capped at user.search.max-results matches."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Ranked page of matching users",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = PagedResult.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Search query too short or too long",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                examples = @ExampleObject(
+                    name = "invalid_query",
+                    summary = "Query too short",
+                    value = """
+                    {
+                      "error": "Invalid filter",
+                      "message": "Search query must have at least 2 characters"
+                    }
+                    """
+                )
+            )
+        )
+    })
+    @RunOnVirtualThread
+    public PagedResult<UserDTO> searchUsers(
+        @Parameter(description = "Search text, 2 to 100 characters", required = true, example = "smi")
+        @QueryParam("q") String q,
+
+        @Parameter(
+            description = "Page number (0-based)",
+            example = "0",
+            schema = @Schema(type = SchemaType.INTEGER, minimum = "0", defaultValue = "0")
+        )
+        @QueryParam("page") @DefaultValue("0") int page,
+
+        @Parameter(
+            description = "Number of items per page (1-100)",
+            example = "10",
+            schema = @Schema(type = SchemaType.INTEGER, minimum = "1", maximum = "100", defaultValue = "10")
+        )
+        @QueryParam("size") @DefaultValue("10") int size) {
+        return userSearchService.search(q, page, size);
+    }
+
+    @GET
+    @Path("/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    @Operation(
+        summary = "Export all users",
+        description = "Streams every user, with address, as newline-delimited JSON or CSV in (createdAt, id) order. " +
+                      "Rows are written as they are read from a server-side cursor, so memory use does not grow with the table size."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Export stream",
+            content = {
+                @Content(
+                    mediaType = "application/x-ndjson",
+                    examples = @ExampleObject(
+                        name = "ndjson_export",
+                        summary = "NDJSON export",
+                        value = """
+                        {"id":"123e4567-e89b-12d3-a456-426614174000","firstName":"John","lastName":"Doe","email":"john.doe@example.com"}
+                        {"id":"223e4567-e89b-12d3-a456-426614174000","firstName":"Jane","lastName":"Smith","email":"jane.smith@example.com"}
+                        """
+                    )
+                ),
+                @Content(
+                    mediaType = "text/csv",
+                    examples = @ExampleObject(
+                        name = "csv_export",
+                        summary = "CSV export",
+                        value = """
+                        id,firstName,lastName,dateOfBirth,email,job,createdAt,updatedAt,street,city,state,postalCode,country
+                        123e4567-e89b-12d3-a456-426614174000,John,Doe,1990-01-15,john.doe@example.com,Software Developer,2024-01-15T10:30:00,2024-01-15T10:30:00,123 Main Street,San Francisco,CA,94105,USA
+                        """
+                    )
+                )
+            }
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Unknown export format",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                examples = @ExampleObject(
+                    name = "invalid_export_format",
+                    summary = "Unknown export format",
+                    value = """
+                    {
+                      "error": "Invalid export format",
+                      "message": "Unsupported export format: xml, expected ndjson or csv"
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public Response exportUsers(
+        @Parameter(
+            description = "Export format: ndjson or csv",
+            example = "ndjson",
+            schema = @Schema(type = SchemaType.STRING, enumeration = {"ndjson", "csv"}, defaultValue = "ndjson")
+        )
+        @QueryParam("format") @DefaultValue("ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingOutput stream = output -> userExporter.export(exportFormat, output);
+        return Response.ok(stream, exportFormat.getMediaType()).build();
+    }
+
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(
+        summary = "Stream user changes",
+        description = "Server-Sent Events for users created, updated and deleted, pushed once their transaction commits. " +
+                      "Each event carries the outbox id as its SSE id; reconnect with Last-Event-ID to replay what was missed. " +
+                      "Delivery is at least once, so clients should ignore ids they have already seen. " +
+                      "If more than user.stream.max-replay changes were missed, the stream ends with a RESET event: reload the users and reconnect."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Event stream",
+            content = @Content(
+                mediaType = MediaType.SERVER_SENT_EVENTS,
+                examples = @ExampleObject(
+                    name = "user_created",
+                    summary = "User created",
+                    value = """
+                    id: 42
+                    event: CREATED
+                    data: {"id":42,"type":"CREATED","userId":"123e4567-e89b-12d3-a456-426614174000","occurredAt":"2024-01-15T10:30:00","user":{"id":"123e4567-e89b-12d3-a456-426614174000","firstName":"John","lastName":"Doe","email":"john.doe@example.com"}}
+                    """
+                )
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Last-Event-ID is not an event id",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON)
+        )
+    })
+    public Multi<OutboundSseEvent> streamUsers(
+        @Parameter(description = "Id of the last event received, sent by the browser on reconnect", example = "42")
+        @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+        @Context Sse sse) {
+        Multi<OutboundSseEvent> events = userChangeStream.stream(parseEventId(lastEventId))
+                .map(event -> sse.newEventBuilder()
+                        .id(String.valueOf(event.getId()))
+                        .name(event.getType().name())
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(UserChangeEvent.class, event)
+                        .build());
+        // Comments keep proxies from closing a quiet stream
+        Multi<OutboundSseEvent> heartbeats = Multi.createFrom().ticks().every(streamHeartbeat)
+                .onOverflow().drop()
+                .map(tick -> sse.newEventBuilder().comment("heartbeat").build());
+        return Multi.createBy().merging().streams(events, heartbeats)
+                .onFailure(ReplayTruncatedException.class)
+                .recoverWithItem(e -> resetEvent(sse, (ReplayTruncatedException) e));
+    }
+
+    /**
+     * Tells a resuming client that the gap was too large to replay: it has to reload the
+     * users it tracks. The id moves its Last-Event-ID to the newest change.
+     */
+    private static OutboundSseEvent resetEvent(Sse sse, ReplayTruncatedException e) {
+        OutboundSseEvent.Builder reset = sse.newEventBuilder()
+                .name("RESET")
+                .data(e.getMessage());
+        if (e.getResumeId() > 0) {
+            reset.id(String.valueOf(e.getResumeId()));
+        }
+        return reset.build();
+    }
+
     @GET
     @Path("/by-email/{email}")
+    @Produces({MediaType.APPLICATION_JSON, Cbor.MEDIA_TYPE})
     @Operation(
         summary = "Get user by email",
         description = "Retrieves a specific user by their email address. This is useful for user-friendly lookups and integrations with external systems."
@@ -382,6 +862,7 @@ public class UserResource {
             )
         )
     })
+    @RunOnVirtualThread
     public Response getUserByEmail(
         @Parameter(
             description = "The email address of the user",
@@ -389,8 +870,266 @@ public class UserResource {
             example = "john.doe@example.com",
             schema = @Schema(type = SchemaType.STRING, format = "email")
         )
-        @PathParam("email") String email) {
-        UserDTO user = userService.findByEmail(email.trim().toLowerCase());
-        return Response.ok(user).build();
+        @PathParam("email") String email,
+
+        @Parameter(
+            description = "Comma-separated list of properties to return, e.g. id,email,firstName,lastName. Only these columns are read from the database.",
+            example = "id,email,firstName,lastName"
+        )
+        @QueryParam("fields") String fields,
+
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        Set<UserField> projection = UserField.parse(fields);
+        MediaType mediaType = negotiate(request);
+        if (hasValidators(headers)) {
+            Response.ResponseBuilder notModified = evaluatePreconditions(request,
+                    userService.findVersionByEmail(email), projection, mediaType, coding(headers));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+        if (projection != null) {
+            UserProjectionService.Projection user = userProjectionService.findByEmail(email, projection);
+            return conditional(Response.ok(user.user(), mediaType), user.version(), projection, mediaType,
+                    coding(headers));
+        }
+        UserCache.CachedUser user = userService.findCachedByEmail(email);
+        // JSON is served from the cached bytes; CBOR is encoded from the cached DTO
+        Object body = Cbor.TYPE.isCompatible(mediaType) ? user.user() : user.json();
+        return conditional(Response.ok(body, mediaType), user.version(), null, mediaType, coding(headers));
+    }
+
+    @PUT
+    @Path("/{id}")
+    @Operation(
+        summary = "Replace a user",
+        description = "Replaces all editable fields of a user. Optional fields left out are cleared and a missing address is removed. Send the ETag of the copy being edited in If-Match to reject the update when the user changed in the meantime."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "User updated; the ETag header carries the new version",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = UserDTO.class)
+            )
+        ),
+        @APIResponse(responseCode = "400", description = "Validation failed"),
+        @APIResponse(responseCode = "404", description = "User not found"),
+        @APIResponse(responseCode = "409", description = "Email already taken, or the user was modified concurrently"),
+        @APIResponse(responseCode = "412", description = "If-Match does not match the current version")
+    })
+    @RunOnVirtualThread
+    public Response replaceUser(
+        @Parameter(
+            description = "The unique identifier of the user",
+            required = true,
+            schema = @Schema(type = SchemaType.STRING, format = "uuid")
+        )
+        @PathParam("id") UUID id,
+
+        @Parameter(description = "ETag of the representation being replaced; * or absent updates unconditionally")
+        @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+
+        @Valid UserDTO userDTO,
+
+        @Context HttpHeaders headers) {
+        return updated(userService.replaceUser(id, userDTO, ifMatchTags(ifMatch)), coding(headers));
+    }
+
+    @PATCH
+    @Path("/{id}")
+    @Consumes({JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON})
+    @Operation(
+        summary = "Update part of a user",
+        description = "Applies a JSON Merge Patch (RFC 7396): members present replace the stored values, null clears them, and address members are merged. Only changed columns are written. Send the ETag of the copy being edited in If-Match to reject the update when the user changed in the meantime."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "User updated; the ETag header carries the new version",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = UserDTO.class)
+            )
+        ),
+        @APIResponse(responseCode = "400", description = "Invalid patch, or the patched user fails validation"),
+        @APIResponse(responseCode = "404", description = "User not found"),
+        @APIResponse(responseCode = "409", description = "Email already taken, or the user was modified concurrently"),
+        @APIResponse(responseCode = "412", description = "If-Match does not match the current version")
+    })
+    @RunOnVirtualThread
+    public Response patchUser(
+        @Parameter(
+            description = "The unique identifier of the user",
+            required = true,
+            schema = @Schema(type = SchemaType.STRING, format = "uuid")
+        )
+        @PathParam("id") UUID id,
+
+        @Parameter(description = "ETag of the representation being patched; * or absent updates unconditionally")
+        @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+
+        @Schema(
+            description = "JSON Merge Patch document",
+            example = """
+            {
+              "job": "Engineering Manager",
+              "address": { "city": "Oakland" }
+            }
+            """
+        )
+        JsonNode patch,
+
+        @Context HttpHeaders headers) {
+        return updated(userService.patchUser(id, patch, ifMatchTags(ifMatch)), coding(headers));
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(
+        summary = "Delete a user",
+        description = "Soft-deletes a user: reads stop returning it immediately and its email can be registered again. The row and its address are removed for good by a background purge after user.purge.retention."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "204", description = "User deleted"),
+        @APIResponse(responseCode = "404", description = "User not found")
+    })
+    @RunOnVirtualThread
+    public void deleteUser(
+        @Parameter(
+            description = "The unique identifier of the user",
+            required = true,
+            schema = @Schema(type = SchemaType.STRING, format = "uuid")
+        )
+        @PathParam("id") UUID id) {
+        userService.deleteUser(id);
+    }
+
+    private static Response updated(UserDTO user, String coding) {
+        return conditional(Response.ok(user), new UserVersion(user.getId(), user.getVersion(), user.getUpdatedAt()),
+                null, MediaType.APPLICATION_JSON_TYPE, coding);
+    }
+
+    /**
+     * The outbox id a reconnecting client resumes after, or null for a fresh stream.
+     */
+    static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Last-Event-ID must be a numeric event id");
+        }
+    }
+
+    /**
+     * Opaque values of the strong tags listed in If-Match. Returns null when the header
+     * is absent or "*", which only requires the user to exist.
+     */
+    static Set<String> ifMatchTags(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<String> tags = new HashSet<>();
+        for (String value : ifMatch.split(",")) {
+            String tag = value.trim();
+            // If-Match uses the strong comparison, so weak tags never match
+            if (tag.isEmpty() || tag.startsWith("W/")) {
+                continue;
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    /**
+     * Picks JSON or CBOR from the Accept header, defaulting to JSON.
+     */
+    private static MediaType negotiate(Request request) {
+        Variant variant = request.selectVariant(List.of(
+                new Variant(MediaType.APPLICATION_JSON_TYPE, (String) null, null),
+                new Variant(Cbor.TYPE, (String) null, null)));
+        return variant != null ? variant.getMediaType() : MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    /**
+     * The content coding the response will be sent with, which is part of its entity tag.
+     */
+    private String coding(HttpHeaders headers) {
+        return compression.coding(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /**
+     * Only conditional reads need the version up front; otherwise the validators are
+     * taken from the row that is served, which costs no extra query.
+     */
+    private static boolean hasValidators(HttpHeaders headers) {
+        return headers.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+                || headers.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Answers If-None-Match / If-Modified-Since from the version alone. Returns a 304
+     * builder when the client copy is current, otherwise null.
+     */
+    private static Response.ResponseBuilder evaluatePreconditions(Request request, UserVersion version,
+                                                                  Set<UserField> projection, MediaType mediaType,
+                                                                  String coding) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModified(),
+                entityTag(version, projection, mediaType, coding));
+        return notModified != null
+                ? notModified.cacheControl(revalidate()).header(HttpHeaders.VARY, VARY)
+                : null;
+    }
+
+    private static Response conditional(Response.ResponseBuilder response, UserVersion version,
+                                        Set<UserField> projection, MediaType mediaType, String coding) {
+        return response.tag(entityTag(version, projection, mediaType, coding))
+                .lastModified(version.lastModified())
+                .cacheControl(revalidate())
+                .header(HttpHeaders.VARY, VARY)
+                .build();
+    }
+
+    /**
+     * Clients may keep a copy but must revalidate it, which is cheap with the ETag.
+     */
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+
+    /**
+     * Strong tag: for a given version, field set, media type and content coding the bytes
+     * are identical. Projections append the requested fields, CBOR a suffix and compressed
+     * responses their coding, so each representation has its own tag.
+     */
+    private static EntityTag entityTag(UserVersion version, Set<UserField> projection, MediaType mediaType,
+                                       String coding) {
+        StringBuilder tag = new StringBuilder(version.tag());
+        if (projection != null) {
+            int fieldMask = 0;
+            for (UserField field : projection) {
+                fieldMask |= 1 << field.ordinal();
+            }
+            tag.append('-').append(Integer.toHexString(fieldMask));
+        }
+        if (Cbor.TYPE.isCompatible(mediaType)) {
+            tag.append("-cbor");
+        }
+        if (coding != null) {
+            tag.append('-').append(coding);
+        }
+        return new EntityTag(tag.toString());
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.stibodx.service;
+
+import org.stibodx.exception.InvalidExportFormatException;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the streaming user export.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat fromString(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidExportFormatException("Unsupported export format: " + value + ", expected ndjson or csv");
+        }
+    }
+}
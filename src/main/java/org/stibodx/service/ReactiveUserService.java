@@ -0,0 +1,138 @@
+package org.stibodx.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.User;
+import org.stibodx.exception.InvalidEmailException;
+import org.stibodx.exception.UserNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking read path over the reactive PostgreSQL client. Requests are served on
+ * the event loop, so concurrency is bounded by the connection pool rather than by
+ * worker threads. Writes stay on the blocking {@link UserService}.
+ */
+@ApplicationScoped
+public class ReactiveUserService {
+
+    private static final String SELECT_USERS = """
+            SELECT u.id, u.first_name, u.last_name, u.date_of_birth, u.email, u.job, u.created_at, u.updated_at, u.version,
+                   a.id AS address_id, a.street, a.city, a.state_province, a.postal_code, a.country
+            FROM users u
+            LEFT JOIN addresses a ON a.user_id = u.id
+            WHERE u.deleted_at IS NULL
+            """;
+
+    @Inject
+    Pool client;
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public Uni<UserDTO> findById(UUID id) {
+        return client.preparedQuery(SELECT_USERS + "AND u.id = $1")
+                .execute(Tuple.of(id))
+                .onItem().transform(ReactiveUserService::firstOrNull)
+                .onItem().ifNull().failWith(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public Uni<UserDTO> findByEmail(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            return Uni.createFrom().failure(new InvalidEmailException("Email cannot be null or empty"));
+        }
+        if (!UserService.isValidEmail(email)) {
+            return Uni.createFrom().failure(new InvalidEmailException("Invalid email format"));
+        }
+        return client.preparedQuery(SELECT_USERS + "AND u.email = $1")
+                .execute(Tuple.of(User.normalizeEmail(email)))
+                .onItem().transform(ReactiveUserService::firstOrNull)
+                .onItem().ifNull().failWith(() -> new UserNotFoundException("User not found with email: " + email));
+    }
+
+    /**
+     * Keyset page over (created_at, id), with the same cursor format as
+     * {@link UserService#findAllByCursor(String, int)}.
+     */
+    @Timed(value = UserService.TIMER, histogram = true)
+    public Uni<PagedResult<UserDTO>> findAllByCursor(String cursor, int size) {
+        try {
+            UserService.validatePageSize(size);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        boolean hasPrevious = cursor != null && !cursor.isBlank();
+        Uni<RowSet<Row>> rows;
+        if (hasPrevious) {
+            PageCursor after;
+            try {
+                after = PageCursor.decode(cursor);
+            } catch (RuntimeException e) {
+                return Uni.createFrom().failure(e);
+            }
+            rows = client.preparedQuery(SELECT_USERS
+                            + "AND (u.created_at, u.id) > ($1, $2) ORDER BY u.created_at, u.id LIMIT $3")
+                    .execute(Tuple.of(after.getCreatedAt(), after.getId(), size + 1));
+        } else {
+            rows = client.preparedQuery(SELECT_USERS + "ORDER BY u.created_at, u.id LIMIT $1")
+                    .execute(Tuple.of(size + 1));
+        }
+
+        return rows.onItem().transform(rowSet -> {
+            List<UserDTO> users = new ArrayList<>(rowSet.size());
+            for (Row row : rowSet) {
+                users.add(toDTO(row));
+            }
+            // One extra row was fetched to find out whether another page exists
+            boolean hasNext = users.size() > size;
+            String nextCursor = null;
+            if (hasNext) {
+                users = users.subList(0, size);
+                UserDTO last = users.get(size - 1);
+                nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+            return new PagedResult<>(users, new PagedResult.PaginationInfo(size, hasNext, hasPrevious, nextCursor));
+        });
+    }
+
+    private static UserDTO firstOrNull(RowSet<Row> rows) {
+        RowIterator<Row> iterator = rows.iterator();
+        return iterator.hasNext() ? toDTO(iterator.next()) : null;
+    }
+
+    static UserDTO toDTO(Row row) {
+        AddressDTO address = null;
+        UUID addressId = row.getUUID("address_id");
+        if (addressId != null) {
+            address = new AddressDTO(
+                    addressId,
+                    row.getString("street"),
+                    row.getString("city"),
+                    row.getString("state_province"),
+                    row.getString("postal_code"),
+                    row.getString("country"));
+        }
+        return new UserDTO(
+                row.getUUID("id"),
+                row.getString("first_name"),
+                row.getString("last_name"),
+                row.getLocalDate("date_of_birth"),
+                row.getString("email"),
+                row.getString("job"),
+                row.getLocalDateTime("created_at"),
+                row.getLocalDateTime("updated_at"),
+                address,
+                row.getLong("version"));
+    }
+}
@@ -0,0 +1,41 @@
+package org.stibodx.service;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.stibodx.entity.User;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Refuses to start without the unique email index. It is a partial index, so Hibernate
+ * cannot declare it and it only comes from db/indexes.sql. createUser relies on it
+ * instead of checking for duplicates first, so without it duplicate emails would be
+ * accepted silently.
+ */
+@ApplicationScoped
+public class SchemaGuard {
+
+    private static final String FIND_INDEX =
+            "SELECT 1 FROM pg_indexes WHERE schemaname = current_schema() AND tablename = 'users' AND indexname = ?";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    void onStart(@Observes StartupEvent event) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_INDEX)) {
+            statement.setString(1, User.EMAIL_CONSTRAINT);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Unique index " + User.EMAIL_CONSTRAINT
+                            + " is missing on users; apply db/indexes.sql before starting the service");
+                }
+            }
+        }
+    }
+}
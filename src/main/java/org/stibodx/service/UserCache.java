@@ -0,0 +1,171 @@
+package org.stibodx.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.User;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * In-process read-through cache for single-user lookups.
+ * Entries are keyed by id; a secondary index maps the normalized email to the id.
+ * Each entry also keeps the serialized JSON so hot reads skip serialization.
+ * Cached DTOs are shared between callers and must be treated as read-only.
+ */
+@ApplicationScoped
+public class UserCache {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "user.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.cache.maximum-size", defaultValue = "10000")
+    long maximumSize;
+
+    @ConfigProperty(name = "user.cache.expire-after-write", defaultValue = "PT5M")
+    Duration expireAfterWrite;
+
+    private Cache<UUID, CachedUser> byId;
+    private Cache<String, UUID> idByEmail;
+
+    @PostConstruct
+    void init() {
+        byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users-by-id");
+        idByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "users-by-email");
+    }
+
+    public CachedUser getById(UUID id, Supplier<Optional<UserDTO>> loader) {
+        if (!enabled) {
+            return loader.get().map(this::toCached).orElse(null);
+        }
+        CachedUser cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return loader.get().map(this::put).orElse(null);
+    }
+
+    public CachedUser getByEmail(String email, Supplier<Optional<UserDTO>> loader) {
+        if (!enabled) {
+            return loader.get().map(this::toCached).orElse(null);
+        }
+        UUID id = idByEmail.getIfPresent(User.normalizeEmail(email));
+        if (id != null) {
+            CachedUser cached = byId.getIfPresent(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return loader.get().map(this::put).orElse(null);
+    }
+
+    /**
+     * Returns the cached entry for the id without loading it, or null. Does not count
+     * as a hit or miss.
+     */
+    public CachedUser peekById(UUID id) {
+        return enabled ? byId.policy().getIfPresentQuietly(id) : null;
+    }
+
+    /**
+     * Returns the cached entry for the email without loading it, or null. Does not count
+     * as a hit or miss.
+     */
+    public CachedUser peekByEmail(String email) {
+        if (!enabled) {
+            return null;
+        }
+        UUID id = idByEmail.policy().getIfPresentQuietly(User.normalizeEmail(email));
+        return id != null ? byId.policy().getIfPresentQuietly(id) : null;
+    }
+
+    /**
+     * Drops every entry for the given user. Mutators call this for the ids and
+     * emails they touch.
+     */
+    public void invalidate(UUID id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            idByEmail.invalidate(User.normalizeEmail(email));
+        }
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idByEmail.invalidateAll();
+    }
+
+    /**
+     * Hit, miss and eviction counters of the id cache. Lookups by email only reach it
+     * when the email index hits.
+     */
+    public CacheStats stats() {
+        return byId.stats();
+    }
+
+    /**
+     * Hit, miss and eviction counters of the email index.
+     */
+    public CacheStats emailStats() {
+        return idByEmail.stats();
+    }
+
+    public long size() {
+        return byId.estimatedSize();
+    }
+
+    private CachedUser put(UserDTO user) {
+        CachedUser cached = toCached(user);
+        byId.put(user.getId(), cached);
+        idByEmail.put(User.normalizeEmail(user.getEmail()), user.getId());
+        return cached;
+    }
+
+    private CachedUser toCached(UserDTO user) {
+        try {
+            return new CachedUser(user, objectMapper.writeValueAsBytes(user));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A cached user together with its serialized JSON representation.
+     */
+    public record CachedUser(UserDTO user, byte[] json) {
+
+        public UserVersion version() {
+            return new UserVersion(user.getId(), user.getVersion(), user.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.stibodx.service;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.stibodx.dto.CountMode;
+import org.stibodx.entity.User;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Produces the total user count for paginated listings according to the
+ * configured {@code user.pagination.count-mode}.
+ */
+@ApplicationScoped
+public class UserCounter {
+
+    /**
+     * The table's reltuples also counts soft-deleted rows until the purge removes them.
+     * The partial email index only holds live rows, so its estimate matches what
+     * listings return.
+     */
+    private static final String ESTIMATE_QUERY =
+            "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass('" + User.EMAIL_CONSTRAINT + "')";
+
+    @ConfigProperty(name = "user.pagination.count-mode", defaultValue = "exact")
+    CountMode countMode;
+
+    @ConfigProperty(name = "user.pagination.count-cache-ttl", defaultValue = "PT30S")
+    Duration cacheTtl;
+
+    private final AtomicReference<CachedCount> cached = new AtomicReference<>();
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * Returns the total user count along with the mode that actually produced it.
+     * The value is null when the configured mode is {@link CountMode#NONE}.
+     */
+    public Total count() {
+        switch (countMode) {
+            case CACHED:
+                return new Total(cachedCount(), CountMode.CACHED);
+            case ESTIMATED:
+                return estimatedCount();
+            case NONE:
+                return new Total(null, CountMode.NONE);
+            default:
+                return new Total(User.count(), CountMode.EXACT);
+        }
+    }
+
+    /**
+     * Returns the number of users matching the filter. Cached and estimated counts only
+     * cover the whole table, so filtered listings are always counted exactly.
+     */
+    public Total count(UserFilter filter) {
+        if (!filter.hasConditions() || countMode == CountMode.NONE) {
+            return count();
+        }
+        String from = filter.joinsAddress() ? "from User u join u.address a" : "from User u";
+        return new Total(User.count(from + filter.where(), filter.getParameters()), CountMode.EXACT);
+    }
+
+    /**
+     * Drops the cached count so the next request recomputes it.
+     */
+    public void invalidate() {
+        cached.set(null);
+    }
+
+    private long cachedCount() {
+        long now = System.nanoTime();
+        CachedCount current = cached.get();
+        if (current != null && now - current.expiresAt < 0) {
+            return current.value;
+        }
+        long value = User.count();
+        cached.set(new CachedCount(value, now + cacheTtl.toNanos()));
+        return value;
+    }
+
+    private Total estimatedCount() {
+        Object result = User.getEntityManager()
+                .createNativeQuery(ESTIMATE_QUERY)
+                .getSingleResult();
+        long estimate = result != null ? ((Number) result).longValue() : -1;
+        // reltuples is -1 (or 0) until the table has been vacuumed or analyzed
+        if (estimate > 0) {
+            return new Total(estimate, CountMode.ESTIMATED);
+        }
+        return new Total(User.count(), CountMode.EXACT);
+    }
+
+    public record Total(Long value, CountMode mode) {
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
@@ -0,0 +1,124 @@
+package org.stibodx.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.User;
+import org.stibodx.mapper.UserMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every user to an output stream as it is read from a server-side cursor.
+ * Heap use stays constant: rows are fetched in chunks of {@code user.export.fetch-size},
+ * written immediately, and the persistence context is cleared after every chunk.
+ */
+@ApplicationScoped
+public class UserExporter {
+
+    private static final String EXPORT_QUERY = "from User u left join fetch u.address order by u.createdAt, u.id";
+    private static final String CSV_HEADER = "id,firstName,lastName,dateOfBirth,email,job,createdAt,updatedAt,"
+            + "street,city,state,postalCode,country";
+
+    @Inject
+    UserMapper userMapper;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "user.export.fetch-size", defaultValue = "500")
+    int fetchSize;
+
+    private ObjectWriter userWriter;
+
+    @PostConstruct
+    void init() {
+        userWriter = objectMapper.writerFor(UserDTO.class);
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = "user.export.transaction-timeout")
+    public void export(ExportFormat format, OutputStream output) {
+        EntityManager entityManager = User.getEntityManager();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        try (Stream<User> users = User.<User>find(EXPORT_QUERY)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            int rows = 0;
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserDTO user = userMapper.toDTO(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, user);
+                } else {
+                    writer.write(userWriter.writeValueAsString(user));
+                }
+                writer.write('\n');
+
+                if (++rows % fetchSize == 0) {
+                    // Hand the chunk to the client and release the entities read so far
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Writer writer, UserDTO user) throws IOException {
+        AddressDTO address = user.getAddress();
+        Object[] values = {
+            user.getId(), user.getFirstName(), user.getLastName(), user.getDateOfBirth(), user.getEmail(),
+            user.getJob(), user.getCreatedAt(), user.getUpdatedAt(),
+            address != null ? address.getStreet() : null,
+            address != null ? address.getCity() : null,
+            address != null ? address.getState() : null,
+            address != null ? address.getPostalCode() : null,
+            address != null ? address.getCountry() : null
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+    }
+
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,71 @@
+package org.stibodx.service;
+
+import org.stibodx.exception.InvalidFieldException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Properties of {@link org.stibodx.dto.UserDTO} that can be requested with the
+ * {@code fields} query parameter, and the JPQL paths they are selected from.
+ * Declaration order is the output order.
+ */
+public enum UserField {
+    ID("id", List.of("u.id")),
+    FIRST_NAME("firstName", List.of("u.firstName")),
+    LAST_NAME("lastName", List.of("u.lastName")),
+    DATE_OF_BIRTH("dateOfBirth", List.of("u.dateOfBirth")),
+    EMAIL("email", List.of("u.email")),
+    ADDRESS("address", List.of("a.id", "a.street", "a.city", "a.state", "a.postalCode", "a.country")),
+    JOB("job", List.of("u.job")),
+    CREATED_AT("createdAt", List.of("u.createdAt")),
+    UPDATED_AT("updatedAt", List.of("u.updatedAt"));
+
+    private final String property;
+    private final List<String> paths;
+
+    UserField(String property, List<String> paths) {
+        this.property = property;
+        this.paths = paths;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Parses a comma-separated list of property names, e.g. {@code id,email,firstName}.
+     *
+     * @return the requested fields, or null when {@code fields} is null or blank
+     */
+    public static Set<UserField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<UserField> parsed = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(fromProperty(trimmed));
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidFieldException("At least one field must be requested");
+        }
+        return parsed;
+    }
+
+    private static UserField fromProperty(String property) {
+        for (UserField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldException("Unknown field: " + property);
+    }
+}
@@ -0,0 +1,167 @@
+package org.stibodx.service;
+
+import org.stibodx.exception.InvalidFilterException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Server-side filters and sort order for user listings, compiled into JPQL
+ * conditions with named parameters over the aliases {@code u} (User) and
+ * {@code a} (Address). Every filter and sort key is backed by an index; see the
+ * {@code @Table} indexes on the entities and {@code db/indexes.sql}.
+ */
+public final class UserFilter {
+
+    /**
+     * Sort keys accepted by the {@code sort} parameter. A leading {@code -} sorts descending.
+     */
+    public enum SortKey {
+        CREATED_AT("createdAt", "u.createdAt"),
+        LAST_NAME("lastName", "u.lastName"),
+        EMAIL("email", "u.email");
+
+        private final String property;
+        private final String path;
+
+        SortKey(String property, String path) {
+            this.property = property;
+            this.path = path;
+        }
+
+        static SortKey fromProperty(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equalsIgnoreCase(property)) {
+                    return key;
+                }
+            }
+            throw new InvalidFilterException("Unsupported sort key: " + property);
+        }
+    }
+
+    private static final UserFilter NONE = new UserFilter();
+
+    private final List<String> conditions = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
+    private boolean joinsAddress;
+    private SortKey sortKey = SortKey.CREATED_AT;
+    private boolean descending;
+
+    private UserFilter() {
+    }
+
+    public static UserFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Builds a filter from raw query parameters. Null or blank values are ignored.
+     *
+     * @param createdFrom inclusive lower bound, ISO date or date-time
+     * @param createdTo exclusive upper bound, ISO date or date-time
+     * @param name case-insensitive prefix of the first or last name
+     * @param sort one of createdAt, lastName, email, optionally prefixed with '-'
+     */
+    public static UserFilter of(String job, String country, String city, String createdFrom, String createdTo,
+                                String name, String sort) {
+        UserFilter filter = new UserFilter();
+        if (!isBlank(job)) {
+            filter.add("u.job = :job", "job", job.trim());
+        }
+        if (!isBlank(country)) {
+            filter.add("a.country = :country", "country", country.trim());
+            filter.joinsAddress = true;
+        }
+        if (!isBlank(city)) {
+            filter.add("a.city = :city", "city", city.trim());
+            filter.joinsAddress = true;
+        }
+        if (!isBlank(createdFrom)) {
+            filter.add("u.createdAt >= :createdFrom", "createdFrom", parseDateTime("createdFrom", createdFrom));
+        }
+        if (!isBlank(createdTo)) {
+            filter.add("u.createdAt < :createdTo", "createdTo", parseDateTime("createdTo", createdTo));
+        }
+        if (!isBlank(name)) {
+            if (name.contains("%") || name.contains("_")) {
+                throw new InvalidFilterException("name must not contain % or _");
+            }
+            filter.add("(lower(u.firstName) like :namePrefix or lower(u.lastName) like :namePrefix)",
+                    "namePrefix", name.trim().toLowerCase(Locale.ROOT) + "%");
+        }
+        if (!isBlank(sort)) {
+            String key = sort.trim();
+            filter.descending = key.startsWith("-");
+            filter.sortKey = SortKey.fromProperty(filter.descending ? key.substring(1) : key);
+        }
+        return filter;
+    }
+
+    public boolean joinsAddress() {
+        return joinsAddress;
+    }
+
+    public boolean hasConditions() {
+        return !conditions.isEmpty();
+    }
+
+    /**
+     * Keyset pagination seeks on (createdAt, id), so it only supports the default order.
+     */
+    public boolean isDefaultOrder() {
+        return sortKey == SortKey.CREATED_AT && !descending;
+    }
+
+    public Map<String, Object> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Returns {@code " where ..."} combining the filter conditions with any extra
+     * conditions, or an empty string when there are none.
+     */
+    public String where(String... extraConditions) {
+        List<String> all = new ArrayList<>(conditions);
+        Collections.addAll(all, extraConditions);
+        return all.isEmpty() ? "" : " where " + String.join(" and ", all);
+    }
+
+    /**
+     * Returns the order by clause, with id as tie-breaker so the order is stable.
+     * Email is unique and needs no tie-breaker.
+     */
+    public String orderBy() {
+        String direction = descending ? " desc" : "";
+        if (sortKey == SortKey.EMAIL) {
+            return " order by " + sortKey.path + direction;
+        }
+        return " order by " + sortKey.path + direction + ", u.id" + direction;
+    }
+
+    private void add(String condition, String parameter, Object value) {
+        conditions.add(condition);
+        parameters.put(parameter, value);
+    }
+
+    private static LocalDateTime parseDateTime(String parameter, String value) {
+        String trimmed = value.trim();
+        try {
+            if (trimmed.length() == 10) {
+                return LocalDate.parse(trimmed).atStartOfDay();
+            }
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new InvalidFilterException(parameter + " must be an ISO date or date-time");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,188 @@
+package org.stibodx.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.stibodx.dto.CountMode;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.entity.User;
+import org.stibodx.exception.InvalidEmailException;
+import org.stibodx.exception.UserNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sparse-fieldset reads. Only the requested properties are put in the JPQL select
+ * list, the address is joined only when requested, and results are returned as
+ * ordered maps so serialization writes nothing else.
+ */
+@ApplicationScoped
+public class UserProjectionService {
+
+    private static final String[] ADDRESS_PROPERTIES = {"id", "street", "city", "state", "postalCode", "country"};
+
+    @Inject
+    UserCounter userCounter;
+
+    /**
+     * A projected user together with the version of the row it was read from, so the
+     * validators sent with it always describe this body.
+     */
+    public record Projection(Map<String, Object> user, UserVersion version) {
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public Projection findById(UUID id, Set<UserField> fields) {
+        List<Tuple> rows = query(fields, false, true, false, " where u.id = :id", "")
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        return toProjection(rows.get(0), fields);
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public Projection findByEmail(String email, Set<UserField> fields) {
+        if (email == null || email.trim().isEmpty()) {
+            throw new InvalidEmailException("Email cannot be null or empty");
+        }
+        if (!UserService.isValidEmail(email)) {
+            throw new InvalidEmailException("Invalid email format");
+        }
+        List<Tuple> rows = query(fields, false, true, false, " where u.email = :email", "")
+                .setParameter("email", User.normalizeEmail(email))
+                .getResultList();
+        if (rows.isEmpty()) {
+            throw new UserNotFoundException("User not found with email: " + email);
+        }
+        return toProjection(rows.get(0), fields);
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public PagedResult<Map<String, Object>> findAllPaginated(int page, int size, boolean includeTotal,
+                                                             UserFilter filter, Set<UserField> fields) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page number cannot be negative");
+        }
+        UserService.validatePageSize(size);
+
+        UserCounter.Total total = includeTotal
+                ? userCounter.count(filter)
+                : new UserCounter.Total(null, CountMode.NONE);
+
+        List<Tuple> rows = filtered(query(fields, false, false, filter.joinsAddress(), filter.where(), filter.orderBy()), filter)
+                .setFirstResult(page * size)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<Map<String, Object>> users = toMaps(hasNext ? rows.subList(0, size) : rows, fields);
+        return new PagedResult<>(users,
+                new PagedResult.PaginationInfo(page, size, total.value(), total.mode(), hasNext));
+    }
+
+    @Timed(value = UserService.TIMER, histogram = true)
+    public PagedResult<Map<String, Object>> findAllByCursor(String cursor, int size, UserFilter filter,
+                                                            Set<UserField> fields) {
+        UserService.validatePageSize(size);
+        UserService.validateCursorOrder(filter);
+
+        boolean hasPrevious = cursor != null && !cursor.isBlank();
+        TypedQuery<Tuple> query;
+        if (hasPrevious) {
+            PageCursor after = PageCursor.decode(cursor);
+            query = filtered(query(fields, true, false, filter.joinsAddress(), filter.where(UserService.KEYSET_CONDITION),
+                    filter.orderBy()), filter)
+                    .setParameter("afterCreatedAt", after.getCreatedAt())
+                    .setParameter("afterId", after.getId());
+        } else {
+            query = filtered(query(fields, true, false, filter.joinsAddress(), filter.where(), filter.orderBy()), filter);
+        }
+        List<Tuple> rows = query.setMaxResults(size + 1).getResultList();
+
+        boolean hasNext = rows.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = new PageCursor(last.get("cursorCreatedAt", LocalDateTime.class),
+                    last.get("cursorId", UUID.class)).encode();
+        }
+        return new PagedResult<>(toMaps(rows, fields),
+                new PagedResult.PaginationInfo(size, hasNext, hasPrevious, nextCursor));
+    }
+
+    private TypedQuery<Tuple> query(Set<UserField> fields, boolean withCursorKeys, boolean withVersion,
+                                    boolean filterJoinsAddress, String where, String orderBy) {
+        StringBuilder jpql = new StringBuilder("select ");
+        int column = 0;
+        for (UserField field : fields) {
+            for (String path : field.getPaths()) {
+                if (column > 0) {
+                    jpql.append(", ");
+                }
+                jpql.append(path).append(" as c").append(column++);
+            }
+        }
+        if (withCursorKeys) {
+            jpql.append(", u.createdAt as cursorCreatedAt, u.id as cursorId");
+        }
+        if (withVersion) {
+            jpql.append(", u.id as versionId, u.version as versionNumber, u.updatedAt as versionUpdatedAt");
+        }
+        jpql.append(" from User u");
+        if (fields.contains(UserField.ADDRESS) || filterJoinsAddress) {
+            jpql.append(" left join u.address a");
+        }
+        jpql.append(where).append(orderBy);
+        return User.getEntityManager().createQuery(jpql.toString(), Tuple.class);
+    }
+
+    private static TypedQuery<Tuple> filtered(TypedQuery<Tuple> query, UserFilter filter) {
+        filter.getParameters().forEach(query::setParameter);
+        return query;
+    }
+
+    private static Projection toProjection(Tuple row, Set<UserField> fields) {
+        UserVersion version = new UserVersion(row.get("versionId", UUID.class),
+                row.get("versionNumber", Long.class), row.get("versionUpdatedAt", LocalDateTime.class));
+        return new Projection(toMap(row, fields), version);
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> rows, Set<UserField> fields) {
+        List<Map<String, Object>> users = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            users.add(toMap(row, fields));
+        }
+        return users;
+    }
+
+    private static Map<String, Object> toMap(Tuple row, Set<UserField> fields) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        int column = 0;
+        for (UserField field : fields) {
+            if (field == UserField.ADDRESS) {
+                Map<String, Object> address = null;
+                if (row.get(column) != null) {
+                    address = new LinkedHashMap<>();
+                    for (int i = 0; i < ADDRESS_PROPERTIES.length; i++) {
+                        address.put(ADDRESS_PROPERTIES[i], row.get(column + i));
+                    }
+                }
+                user.put(field.getProperty(), address);
+                column += ADDRESS_PROPERTIES.length;
+            } else {
+                user.put(field.getProperty(), row.get(column++));
+            }
+        }
+        return user;
+    }
+}
@@ -0,0 +1,113 @@
+package org.stibodx.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.stibodx.entity.User;
+import java.time.Duration;
+
+/**
+ * Hard-deletes soft-deleted users, and their addresses, once they are older than
+ * {@code user.purge.retention}. Each chunk is one set-based statement in its own short
+ * transaction, so a large backlog never holds locks for long or writes one huge WAL
+ * burst. SKIP LOCKED lets several instances purge at the same time without waiting
+ * on each other.
+ */
+@ApplicationScoped
+public class UserPurger {
+
+    private static final Logger LOG = Logger.getLogger(UserPurger.class);
+
+    /**
+     * Both deletes run in one statement; the foreign key from addresses is checked at
+     * the end of it, when the parent rows are gone as well.
+     */
+    private static final String PURGE_CHUNK = """
+            WITH doomed AS (
+                SELECT id FROM users
+                WHERE deleted_at < localtimestamp - make_interval(secs => :retentionSeconds)
+                ORDER BY deleted_at
+                LIMIT :chunkSize
+                FOR UPDATE SKIP LOCKED
+            ), purged_addresses AS (
+                DELETE FROM addresses WHERE user_id IN (SELECT id FROM doomed)
+            )
+            DELETE FROM users WHERE id IN (SELECT id FROM doomed)
+            """;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "user.purge.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.purge.retention", defaultValue = "P1D")
+    Duration retention;
+
+    @ConfigProperty(name = "user.purge.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    @ConfigProperty(name = "user.purge.pause", defaultValue = "PT0.1S")
+    Duration pause;
+
+    private Counter purged;
+
+    @PostConstruct
+    void init() {
+        purged = meterRegistry.counter("users.purged");
+    }
+
+    @Scheduled(every = "${user.purge.every:1h}", delayed = "${user.purge.every:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledPurge() {
+        if (enabled) {
+            long removed = purge();
+            if (removed > 0) {
+                LOG.infof("Purged %d deleted users", removed);
+            }
+        }
+    }
+
+    public long purge() {
+        return purge(retention);
+    }
+
+    /**
+     * Purges users deleted longer than {@code retention} ago, chunk by chunk until a
+     * chunk comes back short.
+     *
+     * @return the number of users removed
+     */
+    public long purge(Duration retention) {
+        long total = 0;
+        while (true) {
+            int removed = QuarkusTransaction.requiringNew().call(() -> purgeChunk(retention));
+            total += removed;
+            purged.increment(removed);
+            if (removed < chunkSize) {
+                return total;
+            }
+            // Give vacuum and replication a moment between chunks
+            try {
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+
+    private int purgeChunk(Duration retention) {
+        return User.getEntityManager()
+                .createNativeQuery(PURGE_CHUNK)
+                .setParameter("retentionSeconds", (double) retention.toSeconds())
+                .setParameter("chunkSize", chunkSize)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,114 @@
+package org.stibodx.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.stibodx.dto.CountMode;
+import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.entity.User;
+import org.stibodx.exception.InvalidFilterException;
+import org.stibodx.mapper.UserMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Type-ahead search over name, email and job. Matching and ranking use the pg_trgm
+ * word similarity of the query against one lower-cased search document per user,
+ * which is covered by the GiST index {@code idx_users_search_trgm} in
+ * {@code db/indexes.sql}. The index returns rows in rank order, so a page costs
+ * the same however many users match.
+ */
+@ApplicationScoped
+public class UserSearchService {
+
+    /** Must stay identical to the indexed expression in db/indexes.sql. */
+    public static final String SEARCH_DOCUMENT =
+            "lower(u.first_name || ' ' || u.last_name || ' ' || u.email || ' ' || coalesce(u.job, ''))";
+
+    private static final String RANKED_IDS = "SELECT u.id FROM users u"
+            + " WHERE u.deleted_at IS NULL AND :q <% " + SEARCH_DOCUMENT
+            + " ORDER BY " + SEARCH_DOCUMENT + " <->> :q, u.id"
+            + " LIMIT :limit OFFSET :offset";
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    @Inject
+    UserMapper userMapper;
+
+    @ConfigProperty(name = "user.search.max-results", defaultValue = "1000")
+    int maxResults;
+
+    /**
+     * Returns one page of users ranked by relevance. No total is computed, and results
+     * stop after {@code user.search.max-results} matches.
+     */
+    @Timed(value = UserService.TIMER, histogram = true)
+    public PagedResult<UserDTO> search(String query, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page number cannot be negative");
+        }
+        UserService.validatePageSize(size);
+        String q = normalizeQuery(query);
+
+        int offset = page * size;
+        int limit = Math.min(size + 1, maxResults - offset);
+        if (limit <= 0) {
+            return new PagedResult<>(List.of(),
+                    new PagedResult.PaginationInfo(page, size, null, CountMode.NONE, false));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<UUID> ids = User.getEntityManager()
+                .createNativeQuery(RANKED_IDS, UUID.class)
+                .setParameter("q", q)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        return new PagedResult<>(loadInOrder(ids),
+                new PagedResult.PaginationInfo(page, size, null, CountMode.NONE, hasNext));
+    }
+
+    private List<UserDTO> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, User> users = User.<User>find("from User u left join fetch u.address where u.id in ?1", ids)
+                .list()
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UserDTO> ranked = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            User user = users.get(id);
+            if (user != null) {
+                ranked.add(userMapper.toDTO(user));
+            }
+        }
+        return ranked;
+    }
+
+    static String normalizeQuery(String query) {
+        String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw new InvalidFilterException("Search query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidFilterException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        return q;
+    }
+}
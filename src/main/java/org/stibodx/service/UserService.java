@@ -1,83 +1,509 @@
 package org.stibodx.service;
 
+import org.stibodx.entity.Address;
 import org.stibodx.entity.User;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.UserChangeEvent;
 import org.stibodx.dto.UserDTO;
+import org.stibodx.dto.UserLookupRequest;
+import org.stibodx.dto.UserLookupResult;
 import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.CountMode;
+import org.stibodx.mapper.AddressMapper;
 import org.stibodx.mapper.UserMapper;
+import org.stibodx.outbox.UserOutbox;
 import org.stibodx.exception.UserNotFoundException;
 import org.stibodx.exception.InvalidEmailException;
 import org.stibodx.exception.UserAlreadyExistsException;
+import io.quarkus.panache.common.Page;
+import org.stibodx.dto.BatchCreateResult;
+import org.stibodx.exception.InvalidBatchException;
+import org.stibodx.exception.InvalidFilterException;
+import org.stibodx.exception.InvalidPatchException;
+import org.stibodx.exception.PreconditionFailedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class UserService {
 
+    /**
+     * List queries fetch the address in the same statement. The inverse side of the
+     * one-to-one is otherwise loaded with one extra SELECT per user when mapped.
+     */
+    private static final String USERS_WITH_ADDRESS = "from User u left join fetch u.address a";
+    /** Seek condition for keyset pages; the leading range lets the planner start on the index. */
+    static final String KEYSET_CONDITION =
+            "u.createdAt >= :afterCreatedAt and (u.createdAt > :afterCreatedAt or u.id > :afterId)";
+    private static final String SELECT_VERSION =
+            "select new org.stibodx.service.UserVersion(u.id, u.version, u.updatedAt) from User u";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * Operation latency timer, tagged with class and method by the interceptor.
+     * Histogram buckets let Prometheus derive p50/p95/p99 server-side.
+     */
+    static final String TIMER = "users.service";
+
     @Inject
     UserMapper userMapper;
 
+    @Inject
+    AddressMapper addressMapper;
+
+    @Inject
+    UserCounter userCounter;
+
+    @Inject
+    UserCache userCache;
+
+    @Inject
+    UserOutbox userOutbox;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @ConfigProperty(name = "user.batch.max-size", defaultValue = "5000")
+    int batchMaxSize;
+
+    @ConfigProperty(name = "user.batch.flush-size", defaultValue = "50")
+    int batchFlushSize;
+
+    @ConfigProperty(name = "user.lookup.max-keys", defaultValue = "1000")
+    int lookupMaxKeys;
+
+    /**
+     * Inserts the user straight away and lets the unique constraint on users.email
+     * reject duplicates. This saves the pre-check SELECT and stays correct when two
+     * creates for the same email race each other.
+     */
+    @Timed(value = TIMER, histogram = true)
     @Transactional
     public UserDTO createUser(@Valid UserDTO userDTO) {
-        Optional<User> existingUser = findUserByEmail(userDTO.getEmail());
-        if (existingUser.isPresent()) {
-            throw new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists");
-        }
-        
         User user = userMapper.toEntity(userDTO);
-        user.persist();
-        return userMapper.toDTO(user);
+        try {
+            user.persistAndFlush();
+        } catch (PersistenceException e) {
+            if (isEmailConflict(e)) {
+                throw new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists");
+            }
+            throw e;
+        }
+        invalidateCountAfterCommit();
+        userCache.invalidate(user.getId(), user.getEmail());
+        UserDTO created = userMapper.toDTO(user);
+        userOutbox.record(UserChangeEvent.Type.CREATED, user.getId(), created);
+        return created;
+    }
+
+    /**
+     * Creates many users in one transaction. Existing emails are resolved with a single
+     * set-based query, and inserts are flushed in chunks so Hibernate can send them as
+     * JDBC batches. Invalid or conflicting items are reported per item and skipped.
+     */
+    @Timed(value = TIMER, histogram = true)
+    @Transactional
+    public BatchCreateResult createUsers(List<UserDTO> userDTOs) {
+        if (userDTOs == null || userDTOs.isEmpty()) {
+            throw new InvalidBatchException("Batch must contain at least one user");
+        }
+        if (userDTOs.size() > batchMaxSize) {
+            throw new InvalidBatchException("Batch cannot exceed " + batchMaxSize + " users");
+        }
+
+        Set<String> takenEmails = findExistingEmails(userDTOs);
+        EntityManager entityManager = User.getEntityManager();
+        List<BatchCreateResult.Item> results = new ArrayList<>(userDTOs.size());
+        int created = 0;
+
+        for (int index = 0; index < userDTOs.size(); index++) {
+            UserDTO userDTO = userDTOs.get(index);
+
+            String violations = describeViolations(userDTO);
+            if (violations != null) {
+                results.add(new BatchCreateResult.Item(index, BatchCreateResult.Status.INVALID, null, violations));
+                continue;
+            }
+            // add() also rejects duplicates within the same batch
+            if (!takenEmails.add(User.normalizeEmail(userDTO.getEmail()))) {
+                results.add(new BatchCreateResult.Item(index, BatchCreateResult.Status.CONFLICT, null,
+                        "User with email " + userDTO.getEmail() + " already exists"));
+                continue;
+            }
+
+            User user = userMapper.toEntity(userDTO);
+            user.persist();
+            UserDTO created = userMapper.toDTO(user);
+            userOutbox.record(UserChangeEvent.Type.CREATED, user.getId(), created);
+            results.add(new BatchCreateResult.Item(index, BatchCreateResult.Status.CREATED, created, null));
+            userCache.invalidate(user.getId(), user.getEmail());
+
+            if (++created % batchFlushSize == 0) {
+                // Send the pending inserts as one JDBC batch and keep the persistence context small
+                flushCreated(entityManager);
+                entityManager.clear();
+            }
+        }
+
+        if (created > 0) {
+            flushCreated(entityManager);
+            invalidateCountAfterCommit();
+        }
+        return new BatchCreateResult(created, userDTOs.size() - created, results);
+    }
+
+    /**
+     * Flushes the pending inserts of a batch. An email taken by a concurrent insert after
+     * {@link #findExistingEmails} ran only shows up here, as a violation of the unique
+     * index; the transaction is lost at that point, so the whole batch is rejected.
+     */
+    private static void flushCreated(EntityManager entityManager) {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (isEmailConflict(e)) {
+                throw new UserAlreadyExistsException("A user with one of the batch's emails was created concurrently");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the editable fields of a user (PUT). Optional fields missing from the
+     * replacement are cleared and a missing address is removed.
+     *
+     * @param expectedTags ETag values from If-Match, or null to update unconditionally
+     */
+    @Timed(value = TIMER, histogram = true)
+    @Transactional
+    public UserDTO replaceUser(UUID id, UserDTO replacement, Set<String> expectedTags) {
+        User user = findForUpdate(id, expectedTags);
+        return update(user, replacement);
     }
 
+    /**
+     * Applies a JSON Merge Patch to a user. The patch is merged into the current
+     * representation, which is then validated and written like a replacement.
+     * Read-only members such as id and createdAt are ignored.
+     *
+     * @param expectedTags ETag values from If-Match, or null to update unconditionally
+     */
+    @Timed(value = TIMER, histogram = true)
+    @Transactional
+    public UserDTO patchUser(UUID id, JsonNode mergePatch, Set<String> expectedTags) {
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        User user = findForUpdate(id, expectedTags);
+        JsonNode patched = JsonMergePatch.apply(objectMapper.valueToTree(userMapper.toDTO(user)), mergePatch);
+        UserDTO target;
+        try {
+            target = objectMapper.treeToValue(patched, UserDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidPatchException(e.getOriginalMessage());
+        }
+        return update(user, target);
+    }
+
+    /**
+     * Soft-deletes a user. With @SoftDelete on User the bulk delete is one UPDATE that
+     * stamps deleted_at, without loading the user or its address; every later read
+     * skips the row. {@link UserPurger} removes the tombstone and the address for good.
+     */
+    @Timed(value = TIMER, histogram = true)
+    @Transactional
+    public void deleteUser(UUID id) {
+        long deleted = User.delete("id", id);
+        if (deleted == 0) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        invalidateCountAfterCommit();
+        invalidateAfterCommit(id);
+        userOutbox.record(UserChangeEvent.Type.DELETED, id, null);
+    }
+
+    @Timed(value = TIMER, histogram = true)
     public UserDTO findById(UUID id) {
-        Optional<User> user = Optional.ofNullable(User.findById(id));
-        return user.map(userMapper::toDTO)
+        return findCachedById(id).user();
+    }
+
+    /**
+     * Same lookup as {@link #findById(UUID)}, returning the cache entry with the
+     * serialized JSON representation.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public UserCache.CachedUser findCachedById(UUID id) {
+        UserCache.CachedUser cached = userCache.getById(id,
+                () -> Optional.ofNullable(User.<User>findById(id)).map(userMapper::toDTO));
+        if (cached == null) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the id and updatedAt of a user from the cache, or from a two-column
+     * query, without loading the entity.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public UserVersion findVersionById(UUID id) {
+        UserCache.CachedUser cached = userCache.peekById(id);
+        if (cached != null) {
+            return cached.version();
+        }
+        return User.getEntityManager()
+                .createQuery(SELECT_VERSION + " where u.id = :id", UserVersion.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
 
+    @Timed(value = TIMER, histogram = true)
     public List<UserDTO> findAll() {
-        List<User> users = User.listAll();
+        List<User> users = User.find(USERS_WITH_ADDRESS).list();
         return users.stream()
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public PagedResult<UserDTO> findAllPaginated(int page, int size) {
+        return findAllPaginated(page, size, true);
+    }
+
+    public PagedResult<UserDTO> findAllPaginated(int page, int size, boolean includeTotal) {
+        return findAllPaginated(page, size, includeTotal, UserFilter.none());
+    }
+
+    /**
+     * Offset pagination. The total is produced by {@link UserCounter} according to the
+     * configured count mode, or skipped entirely when {@code includeTotal} is false.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public PagedResult<UserDTO> findAllPaginated(int page, int size, boolean includeTotal, UserFilter filter) {
         // Validate pagination parameters
         if (page < 0) {
             throw new IllegalArgumentException("Page number cannot be negative");
         }
-        if (size <= 0) {
-            throw new IllegalArgumentException("Page size must be positive");
-        }
-        if (size > 100) {
-            throw new IllegalArgumentException("Page size cannot exceed 100");
-        }
-
-        // Calculate offset
-        int offset = page * size;
+        validatePageSize(size);
 
         // Get total count
-        long totalElements = User.count();
+        UserCounter.Total total = includeTotal
+                ? userCounter.count(filter)
+                : new UserCounter.Total(null, CountMode.NONE);
 
-        // Get paginated results
-        List<User> users = User.findAll()
-                .page(page, size)
+        // Get paginated results, with one extra row to find out whether another page exists
+        List<User> users = User.find(USERS_WITH_ADDRESS + filter.where() + filter.orderBy(), filter.getParameters())
+                .range(page * size, page * size + size)
                 .list();
 
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+
         List<UserDTO> userDTOs = users.stream()
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
 
-        return new PagedResult<>(userDTOs, page, size, totalElements);
+        return new PagedResult<>(userDTOs,
+                new PagedResult.PaginationInfo(page, size, total.value(), total.mode(), hasNext));
+    }
+
+    public PagedResult<UserDTO> findAllByCursor(String cursor, int size) {
+        return findAllByCursor(cursor, size, UserFilter.none());
     }
 
+    /**
+     * Keyset pagination over (createdAt, id). Latency stays flat regardless of depth
+     * because the query seeks on the index instead of scanning an OFFSET, and no
+     * total count is computed.
+     *
+     * @param cursor opaque token from a previous page, or null/blank for the first page
+     */
+    @Timed(value = TIMER, histogram = true)
+    public PagedResult<UserDTO> findAllByCursor(String cursor, int size, UserFilter filter) {
+        validatePageSize(size);
+        validateCursorOrder(filter);
+
+        Page firstRows = Page.ofSize(size + 1);
+        boolean hasPrevious = cursor != null && !cursor.isBlank();
+
+        List<User> users;
+        if (hasPrevious) {
+            PageCursor after = PageCursor.decode(cursor);
+            Map<String, Object> parameters = new HashMap<>(filter.getParameters());
+            parameters.put("afterCreatedAt", after.getCreatedAt());
+            parameters.put("afterId", after.getId());
+            users = User.find(USERS_WITH_ADDRESS + filter.where(KEYSET_CONDITION) + filter.orderBy(), parameters)
+                    .page(firstRows)
+                    .list();
+        } else {
+            users = User.find(USERS_WITH_ADDRESS + filter.where() + filter.orderBy(), filter.getParameters())
+                    .page(firstRows)
+                    .list();
+        }
+
+        // One extra row was fetched to find out whether another page exists
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            User last = users.get(users.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<UserDTO> userDTOs = users.stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return new PagedResult<>(userDTOs,
+                new PagedResult.PaginationInfo(size, hasNext, hasPrevious, nextCursor));
+    }
+
+    @Timed(value = TIMER, histogram = true)
     public UserDTO findByEmail(String email) {
+        return findCachedByEmail(email).user();
+    }
+
+    /**
+     * Same lookup as {@link #findByEmail(String)}, returning the cache entry with the
+     * serialized JSON representation.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public UserCache.CachedUser findCachedByEmail(String email) {
+        validateEmail(email);
+        String normalizedEmail = User.normalizeEmail(email);
+        UserCache.CachedUser cached = userCache.getByEmail(normalizedEmail,
+                () -> findUserByEmail(normalizedEmail).map(userMapper::toDTO));
+        if (cached == null) {
+            throw new UserNotFoundException("User not found with email: " + email);
+        }
+        return cached;
+    }
+
+    /**
+     * Email counterpart of {@link #findVersionById(UUID)}.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public UserVersion findVersionByEmail(String email) {
+        validateEmail(email);
+        UserCache.CachedUser cached = userCache.peekByEmail(email);
+        if (cached != null) {
+            return cached.version();
+        }
+        return User.getEntityManager()
+                .createQuery(SELECT_VERSION + " where u.email = :email", UserVersion.class)
+                .setParameter("email", User.normalizeEmail(email))
+                .getResultStream()
+                .findFirst()
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+    }
+
+    /**
+     * Resolves users by id and email in a single statement that also fetches their
+     * addresses, instead of one lookup per key. Users come back in request order, ids
+     * first, each user once; keys that match no user are reported as missing.
+     */
+    @Timed(value = TIMER, histogram = true)
+    public UserLookupResult findAllByKeys(UserLookupRequest request) {
+        List<UUID> ids = distinctKeys(request == null ? null : request.getIds());
+        List<String> emails = distinctKeys(request == null ? null : request.getEmails());
+        if (ids.isEmpty() && emails.isEmpty()) {
+            throw new InvalidBatchException("Lookup must contain at least one id or email");
+        }
+        if (ids.size() + emails.size() > lookupMaxKeys) {
+            throw new InvalidBatchException("Lookup cannot exceed " + lookupMaxKeys + " keys");
+        }
+
+        List<String> conditions = new ArrayList<>(2);
+        Map<String, Object> parameters = new HashMap<>();
+        if (!ids.isEmpty()) {
+            conditions.add("u.id in :ids");
+            parameters.put("ids", ids);
+        }
+        if (!emails.isEmpty()) {
+            conditions.add("u.email in :emails");
+            parameters.put("emails", emails.stream().map(User::normalizeEmail).distinct().toList());
+        }
+        List<User> users = User.find(USERS_WITH_ADDRESS + " where " + String.join(" or ", conditions), parameters)
+                .list();
+
+        Map<UUID, User> byId = new HashMap<>();
+        Map<String, User> byEmail = new HashMap<>();
+        for (User user : users) {
+            byId.put(user.getId(), user);
+            byEmail.put(user.getEmail(), user);
+        }
+
+        Map<UUID, UserDTO> found = new LinkedHashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        List<String> missingEmails = new ArrayList<>();
+        for (UUID id : ids) {
+            User user = byId.get(id);
+            if (user == null) {
+                missingIds.add(id);
+            } else {
+                found.computeIfAbsent(user.getId(), key -> userMapper.toDTO(user));
+            }
+        }
+        for (String email : emails) {
+            User user = byEmail.get(User.normalizeEmail(email));
+            if (user == null) {
+                missingEmails.add(email);
+            } else {
+                found.computeIfAbsent(user.getId(), key -> userMapper.toDTO(user));
+            }
+        }
+        return new UserLookupResult(new ArrayList<>(found.values()), missingIds, missingEmails);
+    }
+
+    private static <T> List<T> distinctKeys(List<T> keys) {
+        if (keys == null) {
+            return List.of();
+        }
+        if (keys.contains(null)) {
+            throw new InvalidBatchException("Lookup keys cannot be null");
+        }
+        return keys.stream().distinct().toList();
+    }
+
+    private static void validateEmail(String email) {
         // Validate email format
         if (email == null || email.trim().isEmpty()) {
             throw new InvalidEmailException("Email cannot be null or empty");
@@ -86,19 +512,203 @@ public class UserService {
         if (!isValidEmail(email)) {
             throw new InvalidEmailException("Invalid email format");
         }
-        
-        Optional<User> user = findUserByEmail(email);
-        return user.map(userMapper::toDTO)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
     }
     
-    private boolean isValidEmail(String email) {
+    /**
+     * Loads the user to update and checks If-Match against the version read in the
+     * same transaction. The @Version column catches writers that slip in after this.
+     */
+    private static User findForUpdate(UUID id, Set<String> expectedTags) {
+        User user = User.findById(id);
+        if (user == null) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        if (expectedTags != null) {
+            UserVersion current = new UserVersion(user.getId(), user.getVersion(), user.getUpdatedAt());
+            if (expectedTags.stream().noneMatch(current::matches)) {
+                throw new PreconditionFailedException("User " + id + " has been modified since it was read");
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Copies the target state onto the managed user and flushes. Hibernate's dirty
+     * checking decides what is written: unchanged fields produce no UPDATE, and with
+     * @DynamicUpdate a changed row is written with only its changed columns.
+     */
+    private UserDTO update(User user, UserDTO target) {
+        Set<ConstraintViolation<UserDTO>> violations = validator.validate(target);
+        if (!violations.isEmpty()) {
+            throw new jakarta.validation.ConstraintViolationException(violations);
+        }
+
+        String previousEmail = user.getEmail();
+        long previousVersion = user.getVersion();
+        userMapper.updateEntity(target, user);
+        // Normalize here, so an email that only differs in case does not dirty the row
+        user.setEmail(User.normalizeEmail(user.getEmail()));
+        if (updateAddress(user, target.getAddress())) {
+            // The address lives in its own table; bump the user row so updatedAt and the ETag move
+            user.touch();
+        }
+
+        try {
+            User.flush();
+        } catch (PersistenceException e) {
+            if (isEmailConflict(e)) {
+                throw new UserAlreadyExistsException("User with email " + target.getEmail() + " already exists");
+            }
+            throw e;
+        }
+        UserDTO updated = userMapper.toDTO(user);
+        // A patch that changed nothing did not bump the version and is not an event
+        if (user.getVersion() != previousVersion) {
+            invalidateAfterCommit(user.getId(), previousEmail, user.getEmail());
+            userOutbox.record(UserChangeEvent.Type.UPDATED, user.getId(), updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Creates, updates or removes the address to match the target.
+     *
+     * @return whether the stored address changes
+     */
+    private boolean updateAddress(User user, AddressDTO target) {
+        Address address = user.getAddress();
+        if (target == null) {
+            if (address == null) {
+                return false;
+            }
+            // orphanRemoval deletes the row on flush
+            user.setAddress(null);
+            return true;
+        }
+        if (address == null) {
+            Address created = addressMapper.toEntity(target);
+            created.setId(null);
+            created.setUser(user);
+            user.setAddress(created);
+            return true;
+        }
+        AddressDTO before = addressMapper.toDTO(address);
+        addressMapper.updateEntity(target, address);
+        return !before.equals(addressMapper.toDTO(address));
+    }
+
+    /**
+     * Drops the cache entries now and again after the transaction completes, so a read
+     * that loaded the old row before the commit cannot leave it cached.
+     */
+    private void invalidateAfterCommit(UUID id, String... emails) {
+        invalidate(id, emails);
+        afterCompletion(() -> invalidate(id, emails));
+    }
+
+    /**
+     * Drops the cached totals now and again once the transaction has ended, so a count
+     * that ran concurrently cannot re-cache the old total for the whole TTL.
+     */
+    private void invalidateCountAfterCommit() {
+        userCounter.invalidate();
+        afterCompletion(userCounter::invalidate);
+    }
+
+    private void afterCompletion(Runnable action) {
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private void invalidate(UUID id, String... emails) {
+        userCache.invalidate(id, null);
+        for (String email : emails) {
+            userCache.invalidate(null, email);
+        }
+    }
+
+    private Set<String> findExistingEmails(List<UserDTO> userDTOs) {
+        List<String> emails = userDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(UserDTO::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .map(User::normalizeEmail)
+                .distinct()
+                .collect(Collectors.toList());
+        if (emails.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<String> existing = User.getEntityManager()
+                .createQuery("select u.email from User u where u.email in :emails", String.class)
+                .setParameter("emails", emails)
+                .getResultList();
+        return new HashSet<>(existing);
+    }
+
+    private String describeViolations(UserDTO userDTO) {
+        if (userDTO == null) {
+            return "User must not be null";
+        }
+        Set<ConstraintViolation<UserDTO>> violations = validator.validate(userDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    static void validateCursorOrder(UserFilter filter) {
+        if (!filter.isDefaultOrder()) {
+            throw new InvalidFilterException("Cursor pagination only supports the default createdAt order");
+        }
+    }
+
+    static boolean isEmailConflict(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && User.EMAIL_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            // Batched statements may only carry the constraint name in the driver message
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION.equals(sqlException.getSQLState())
+                    && sqlException.getMessage() != null
+                    && sqlException.getMessage().contains(User.EMAIL_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (size > 100) {
+            throw new IllegalArgumentException("Page size cannot exceed 100");
+        }
+    }
+
+    static boolean isValidEmail(String email) {
         // Basic email validation - contains @ and has characters before and after
         return email.contains("@") && 
                email.indexOf("@") > 0 && 
                email.indexOf("@") < email.length() - 1;
     }
 
+    /**
+     * Exact match on the normalized email, served by the uk_users_email index.
+     */
     private Optional<User> findUserByEmail(String email) {
         return User.find("email", email).firstResultOptional();
     }
@@ -0,0 +1,41 @@
+package org.stibodx.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Identity, optimistic lock version and last update time of a user, enough to answer
+ * conditional requests without loading the entity. The entity tag is built from the
+ * version, which changes with every write; updatedAt only serves Last-Modified and is
+ * truncated to the database precision so values read from the cache and from a version
+ * query compare equal.
+ */
+public record UserVersion(UUID id, long version, LocalDateTime updatedAt) {
+
+    public UserVersion {
+        updatedAt = updatedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Opaque validator that changes whenever the user is updated.
+     */
+    public String tag() {
+        return id + "-" + Long.toHexString(version);
+    }
+
+    /**
+     * Whether an entity tag was issued for this version. Tags of projections and other
+     * media types extend {@link #tag()} with a suffix and match as well.
+     */
+    public boolean matches(String entityTag) {
+        String tag = tag();
+        return entityTag.equals(tag) || entityTag.startsWith(tag + "-");
+    }
+
+    public Date lastModified() {
+        return Date.from(updatedAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,21 @@
+-- Indexes that cannot be declared with @Index. Run before the data scripts.
+-- Soft delete: User is mapped with @SoftDelete, so every ORM query carries deleted_at IS NULL.
+-- The default listing order and the email lookup only index live rows, so reads never visit
+-- tombstones, and a deleted user's email can be registered again.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id) WHERE deleted_at IS NULL;
+-- Tombstones only, oldest first, for UserPurger.
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Case-insensitive name prefix search: lower(x) LIKE 'abc%' can use a text_pattern_ops index in any collation.
+CREATE INDEX IF NOT EXISTS idx_users_first_name_prefix ON users (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_prefix ON users (lower(last_name) text_pattern_ops);
+
+-- Type-ahead search (UserSearchService). GiST rather than GIN so the index can also
+-- return rows ordered by word-similarity distance for LIMIT queries.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_search_trgm ON users
+    USING gist (lower(first_name || ' ' || last_name || ' ' || email || ' ' || coalesce(job, '')) gist_trgm_ops);
+
+-- Outbox relay (OutboxRelay): only pending events, in id order.
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE published_at IS NULL AND parked_at IS NULL;
@@ -0,0 +1,6 @@
+-- Triggers and functions that Hibernate schema generation cannot declare. Run after db/indexes.sql.
+-- Every committed outbox row is announced on the user_changes channel with its id as payload.
+-- NOTIFY is delivered at commit and dropped on rollback, so listeners (UserChangeStream)
+-- never see a change before it is visible.
+CREATE OR REPLACE FUNCTION notify_user_change() RETURNS trigger LANGUAGE plpgsql AS 'BEGIN PERFORM pg_notify(''user_changes'', NEW.id::text); RETURN NULL; END';
+CREATE OR REPLACE TRIGGER outbox_events_notify AFTER INSERT ON outbox_events FOR EACH ROW EXECUTE FUNCTION notify_user_change();
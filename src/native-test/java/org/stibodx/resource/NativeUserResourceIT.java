@@ -0,0 +1,91 @@
+package org.stibodx.resource;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Smoke test against the packaged application, run with {@code ./gradlew testNative}.
+ * Covers the paths that depend on build-time metadata in a native image: MapStruct
+ * mappers, Lombok DTOs, the UUIDv7 generator, exception mappers and OpenAPI.
+ */
+@QuarkusIntegrationTest
+class NativeUserResourceIT {
+
+    @Test
+    @DisplayName("Should create and read back a user")
+    void shouldCreateAndReadUser() {
+        String id = given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "firstName": "Native",
+                    "lastName": "Image",
+                    "email": "native.image@example.com",
+                    "address": {
+                        "street": "1 Native Way",
+                        "city": "Graal",
+                        "country": "USA"
+                    }
+                }
+                """)
+        .when()
+            .post("/users")
+        .then()
+            .statusCode(201)
+            .body("id", notNullValue())
+            .extract()
+            .path("id");
+
+        given()
+        .when()
+            .get("/users/{id}", id)
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .body("email", equalTo("native.image@example.com"))
+            .body("address.city", equalTo("Graal"));
+    }
+
+    @Test
+    @DisplayName("Should list users and map errors")
+    void shouldListUsersAndMapErrors() {
+        given()
+            .queryParam("size", 5)
+        .when()
+            .get("/users")
+        .then()
+            .statusCode(200)
+            .body("pagination.size", equalTo(5));
+
+        given()
+        .when()
+            .get("/users/{id}", "00000000-0000-0000-0000-000000000000")
+        .then()
+            .statusCode(404)
+            .body("error", notNullValue());
+    }
+
+    @Test
+    @DisplayName("Should serve the OpenAPI document and Swagger UI")
+    void shouldServeOpenApiAndSwaggerUi() {
+        given()
+        .when()
+            .get("/q/openapi")
+        .then()
+            .statusCode(200)
+            .body(containsString("/users"));
+
+        given()
+        .when()
+            .get("/swagger-ui/")
+        .then()
+            .statusCode(200);
+    }
+}
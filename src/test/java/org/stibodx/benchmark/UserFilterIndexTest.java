@@ -0,0 +1,153 @@
+package org.stibodx.benchmark;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.stibodx.metrics.StatementCounter;
+import org.stibodx.service.UserFilter;
+import org.stibodx.service.UserSearchService;
+import org.stibodx.service.UserService;
+
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds a large users table and checks that every supported filter and sort of
+ * {@code GET /users}, and the ranked {@code GET /users/search} query, is planned
+ * as an index scan rather than a sequential scan. The listing statements are the
+ * ones {@link UserService#findAllPaginated(int, int, boolean, UserFilter)} actually
+ * sends, captured with {@link StatementCounter} and explained with the filter values
+ * bound. Everything runs in one transaction that is rolled back. Excluded from the
+ * default test run; execute with {@code ./gradlew benchmark}. Row count can be tuned
+ * with -Dbenchmark.rows.
+ */
+@QuarkusTest
+@Tag("benchmark")
+class UserFilterIndexTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int PAGE_SIZE = 20;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    UserService userService;
+
+    /**
+     * A listing request and the values of its placeholders, in SQL order. Placeholders
+     * after these are the paging bounds.
+     */
+    private record Listing(UserFilter filter, Object... values) {
+    }
+
+    @Test
+    @DisplayName("Every filter and sort combination should use an index")
+    void everyFilterAndSortShouldUseAnIndex() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Listing> listings = new LinkedHashMap<>();
+        listings.put("default order", new Listing(UserFilter.none()));
+        listings.put("sort=-createdAt", new Listing(filter(null, null, null, null, null, null, "-createdAt")));
+        listings.put("sort=lastName", new Listing(filter(null, null, null, null, null, null, "lastName")));
+        listings.put("sort=email", new Listing(filter(null, null, null, null, null, null, "email")));
+        listings.put("job", new Listing(filter("job-42", null, null, null, null, null, null), "job-42"));
+        listings.put("country+city", new Listing(filter(null, "country-7", "city-4242", null, null, null, null),
+                "country-7", "city-4242"));
+        listings.put("city", new Listing(filter(null, null, "city-4242", null, null, null, null), "city-4242"));
+        listings.put("created range", new Listing(
+                filter(null, null, null, now.minusHours(1).toString(), now.toString(), null, null),
+                now.minusHours(1), now));
+        listings.put("name prefix", new Listing(filter(null, null, null, null, null, "First-4242", null),
+                "first-4242%", "first-4242%"));
+
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put("email", "SELECT * FROM users u WHERE u.deleted_at IS NULL AND u.email = 'user-4242@bench.example.com'");
+        queries.put("purge chunk", "SELECT id FROM users WHERE deleted_at < localtimestamp - interval '1 day' "
+                + "ORDER BY deleted_at LIMIT 1000");
+        queries.put("search", "SELECT u.id FROM users u WHERE u.deleted_at IS NULL AND 'last-4242' <% " + UserSearchService.SEARCH_DOCUMENT
+                + " ORDER BY " + UserSearchService.SEARCH_DOCUMENT + " <->> 'last-4242', u.id LIMIT 21");
+
+        // Hibernate gets the same connection inside the transaction, so it sees the seed rows
+        QuarkusTransaction.begin();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            seed(statement);
+
+            for (Map.Entry<String, Listing> listing : listings.entrySet()) {
+                String sql = capture(listing.getValue().filter());
+                assertPlanUsesIndexes(listing.getKey(), explain(connection, sql, listing.getValue().values()));
+            }
+            for (Map.Entry<String, String> query : queries.entrySet()) {
+                assertPlanUsesIndexes(query.getKey(), explain(connection, query.getValue()));
+            }
+        } finally {
+            QuarkusTransaction.rollback();
+        }
+    }
+
+    private static UserFilter filter(String job, String country, String city, String createdFrom, String createdTo,
+                                     String name, String sort) {
+        return UserFilter.of(job, country, city, createdFrom, createdTo, name, sort);
+    }
+
+    private String capture(UserFilter filter) {
+        List<String> statements = StatementCounter.capture(
+                () -> userService.findAllPaginated(0, PAGE_SIZE, false, filter));
+        assertEquals(1, statements.size(), String.join("\n", statements));
+        return statements.get(0);
+    }
+
+    private static void assertPlanUsesIndexes(String name, String plan) {
+        System.out.printf("== %s%n%s%n", name, plan);
+        assertFalse(plan.contains("Seq Scan on users"), name + " scans users sequentially");
+        assertFalse(plan.contains("Seq Scan on addresses"), name + " scans addresses sequentially");
+    }
+
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("CREATE TEMP TABLE bench_ids ON COMMIT DROP AS "
+                + "SELECT g AS n, gen_random_uuid() AS id FROM generate_series(1, " + ROWS + ") AS g");
+        statement.execute("INSERT INTO users (id, first_name, last_name, date_of_birth, email, job, created_at, updated_at) "
+                + "SELECT id, 'First-' || n, 'Last-' || (n % 50000), DATE '1990-01-01' + (n % 10000), "
+                + "'user-' || n || '@bench.example.com', 'job-' || (n % 500), "
+                + "now() - make_interval(secs => n), now() FROM bench_ids");
+        statement.execute("INSERT INTO addresses (id, street, city, state_province, postal_code, country, user_id) "
+                + "SELECT gen_random_uuid(), n || ' Bench Street', 'city-' || (n % 20000), NULL, NULL, "
+                + "'country-' || (n % 200), id FROM bench_ids");
+        statement.execute("ANALYZE users");
+        statement.execute("ANALYZE addresses");
+    }
+
+    private static String explain(Connection connection, String sql, Object... values) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // Hibernate's SQL carries no literal question marks
+            int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+            assertTrue(placeholders >= values.length, sql);
+            for (int i = 0; i < placeholders; i++) {
+                // Bound values give the custom plan the driver gets; the rest are paging bounds
+                statement.setObject(i + 1, i < values.length ? values[i] : PAGE_SIZE + 1);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.stibodx.benchmark;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.stibodx.entity.UuidV7Generator;
+
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares insert throughput and primary key index size for random (v4) and
+ * time-ordered (v7) UUID keys. Excluded from the default test run; execute with
+ * {@code ./gradlew benchmark}. Row count can be tuned with -Dbenchmark.rows.
+ */
+@QuarkusTest
+@Tag("benchmark")
+class UuidInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 500_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    @DisplayName("Compare UUIDv4 and UUIDv7 primary key inserts")
+    void compareUuidV4AndV7Inserts() throws SQLException {
+        Result v4 = run("bench_uuid_v4", UUID::randomUUID);
+        Result v7 = run("bench_uuid_v7", UuidV7Generator::next);
+
+        System.out.printf("%-8s %12s %16s%n", "keys", "rows/s", "pk index bytes");
+        System.out.printf("%-8s %12.0f %16d%n", "v4", v4.rowsPerSecond(), v4.indexBytes());
+        System.out.printf("%-8s %12.0f %16d%n", "v7", v7.rowsPerSecond(), v7.indexBytes());
+
+        assertTrue(v7.indexBytes() <= v4.indexBytes(), "Time-ordered keys should not produce a larger index");
+    }
+
+    private Result run(String table, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL)");
+            }
+
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "user-" + i);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            long indexBytes;
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+                rs.next();
+                indexBytes = rs.getLong(1);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + table);
+            }
+            connection.commit();
+            return new Result(ROWS / seconds, indexBytes);
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.stibodx.outbox;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import org.stibodx.dto.UserChangeEvent;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test sink: keeps every delivered event and can be told to fail the next batch.
+ */
+@Alternative
+@Priority(1)
+@ApplicationScoped
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<UserChangeEvent> events = new CopyOnWriteArrayList<>();
+    private volatile boolean failNext;
+
+    @Override
+    public void publish(List<UserChangeEvent> batch) throws IOException {
+        if (failNext) {
+            failNext = false;
+            throw new IOException("sink unavailable");
+        }
+        events.addAll(batch);
+    }
+
+    public List<UserChangeEvent> events() {
+        return events;
+    }
+
+    public void failNext() {
+        failNext = true;
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,183 @@
+package org.stibodx.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.service.UserService;
+
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs without a test transaction so the outbox rows written by UserService commit and
+ * become visible to the relay. The scheduled relay is disabled in the test profile;
+ * each test drives it directly.
+ */
+@QuarkusTest
+@VirtualThreadUnit
+class OutboxRelayTest {
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    OutboxRelay outboxRelay;
+
+    @Inject
+    InMemoryOutboxSink sink;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void drain() throws InterruptedException {
+        // Deliver what other tests left behind, waiting out a backoff if one is running
+        while (outboxRelay.relay() > 0 || pending() > 0) {
+            Thread.sleep(100);
+        }
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("Should deliver one event per committed change, in id order within a batch")
+    void shouldDeliverChangesInOrder() throws Exception {
+        UUID id = create("outbox.order@example.com");
+        userService.patchUser(id, objectMapper.readTree("{\"job\": \"Relayed\"}"), null);
+        userService.deleteUser(id);
+
+        int delivered = outboxRelay.relay();
+
+        List<UserChangeEvent> events = sink.events().stream()
+                .filter(event -> event.getUserId().equals(id))
+                .toList();
+        assertEquals(3, delivered);
+        assertEquals(List.of(UserChangeEvent.Type.CREATED, UserChangeEvent.Type.UPDATED, UserChangeEvent.Type.DELETED),
+                events.stream().map(UserChangeEvent::getType).toList());
+        assertEquals("outbox.order@example.com", events.get(0).getUser().getEmail());
+        assertEquals("Relayed", events.get(1).getUser().getJob());
+        assertNull(events.get(2).getUser());
+        assertTrue(events.get(0).getId() < events.get(1).getId());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    @DisplayName("Should not record an event for a patch that changes nothing")
+    void shouldSkipNoOpUpdates() throws Exception {
+        UUID id = create("outbox.noop@example.com");
+        userService.patchUser(id, objectMapper.readTree("{\"firstName\": \"Outbox\"}"), null);
+
+        outboxRelay.relay();
+
+        assertEquals(1, sink.events().stream().filter(event -> event.getUserId().equals(id)).count());
+    }
+
+    @Test
+    @DisplayName("Should keep events pending after a failed delivery and retry after the backoff")
+    void shouldRetryFailedBatch() throws Exception {
+        UUID id = create("outbox.retry@example.com");
+        sink.failNext();
+
+        assertEquals(0, outboxRelay.relay());
+        assertEquals(1, pending());
+        assertEquals(1, attempts(id));
+        // Still backing off: nothing is read, even though the sink is healthy again
+        assertEquals(0, outboxRelay.relay());
+        assertTrue(sink.events().isEmpty());
+
+        Thread.sleep(300);
+        assertEquals(1, outboxRelay.relay());
+        assertEquals(id, sink.events().get(0).getUserId());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    @DisplayName("Should park an event whose payload cannot be read and deliver the rest")
+    void shouldParkUnreadableEvents() {
+        UUID poison = UUID.randomUUID();
+        // A negative id cannot collide with the pooled sequence and sorts first
+        update("INSERT INTO outbox_events (id, type, user_id, payload, created_at, attempts) "
+                + "VALUES (-1000, 'UPDATED', ?, '{\"dateOfBirth\": \"not-a-date\"}', localtimestamp, 0)", poison);
+        UUID id = create("outbox.after.poison@example.com");
+
+        assertEquals(1, outboxRelay.relay());
+
+        assertEquals(List.of(id), sink.events().stream().map(UserChangeEvent::getUserId).toList());
+        assertEquals(0, pending());
+        assertEquals(1, query("SELECT count(*) FROM outbox_events WHERE user_id = ? AND parked_at IS NOT NULL", poison));
+        // Parked rows are not retried
+        assertEquals(0, outboxRelay.relay());
+    }
+
+    @Test
+    @ShouldNotPin
+    @DisplayName("Should not pin its carrier thread when relaying on a virtual thread")
+    void shouldNotPinOnVirtualThread() throws Exception {
+        UUID id = create("outbox.virtual@example.com");
+
+        Thread relay = Thread.ofVirtual().start(outboxRelay::relay);
+        relay.join();
+
+        assertEquals(List.of(id), sink.events().stream().map(UserChangeEvent::getUserId).toList());
+        assertEquals(0, pending());
+    }
+
+    private UUID create(String email) {
+        UserDTO user = new UserDTO();
+        user.setFirstName("Outbox");
+        user.setLastName("Event");
+        user.setEmail(email);
+        return userService.createUser(user).getId();
+    }
+
+    private long pending() {
+        return query("SELECT count(*) FROM outbox_events WHERE published_at IS NULL AND parked_at IS NULL", null);
+    }
+
+    private long attempts(UUID userId) {
+        return query("SELECT max(attempts) FROM outbox_events WHERE user_id = ?", userId);
+    }
+
+    private void update(String sql, UUID userId) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long query(String sql, UUID userId) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (userId != null) {
+                statement.setObject(1, userId);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
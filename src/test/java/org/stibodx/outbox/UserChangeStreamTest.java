@@ -0,0 +1,192 @@
+package org.stibodx.outbox;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.UserChangeEvent;
+import org.stibodx.dto.UserDTO;
+import org.stibodx.exception.ReplayTruncatedException;
+import org.stibodx.service.UserService;
+
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs without a test transaction: events only reach the stream once UserService's
+ * transaction commits and the outbox trigger's NOTIFY is delivered.
+ */
+@QuarkusTest
+class UserChangeStreamTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    UserChangeStream userChangeStream;
+
+    @Inject
+    UserService userService;
+
+    @Test
+    @DisplayName("Should push a committed change to live subscribers")
+    void shouldStreamCommittedChanges() {
+        AssertSubscriber<UserChangeEvent> subscriber = userChangeStream.stream(null)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        UUID id = create("stream.live@example.com");
+
+        UserChangeEvent event = awaitEvent(subscriber, id);
+        assertEquals(UserChangeEvent.Type.CREATED, event.getType());
+        assertEquals("stream.live@example.com", event.getUser().getEmail());
+        subscriber.cancel();
+    }
+
+    @Test
+    @DisplayName("Should replay the changes after Last-Event-ID before going live")
+    void shouldReplayFromLastEventId() {
+        AssertSubscriber<UserChangeEvent> live = userChangeStream.stream(null)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        UUID first = create("stream.first@example.com");
+        long lastEventId = awaitEvent(live, first).getId();
+        live.cancel();
+
+        // Committed while the client was away
+        UUID missed = create("stream.missed@example.com");
+        userService.deleteUser(missed);
+
+        AssertSubscriber<UserChangeEvent> resumed = userChangeStream.stream(lastEventId)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        assertEquals(UserChangeEvent.Type.CREATED, awaitEvent(resumed, missed).getType());
+        List<UserChangeEvent> replayed = resumed.getItems().stream()
+                .filter(event -> missed.equals(event.getUserId()))
+                .toList();
+        assertEquals(List.of(UserChangeEvent.Type.CREATED, UserChangeEvent.Type.DELETED),
+                replayed.stream().map(UserChangeEvent::getType).toList());
+        assertTrue(resumed.getItems().stream().noneMatch(event -> event.getId() == lastEventId));
+        resumed.cancel();
+    }
+
+    @Test
+    @DisplayName("Should hold live changes until the replay has been sent")
+    void shouldSendReplayBeforeLiveChanges() {
+        AssertSubscriber<UserChangeEvent> live = userChangeStream.stream(null)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        UUID first = create("stream.before.order@example.com");
+        long lastEventId = awaitEvent(live, first).getId();
+        live.cancel();
+
+        List<UserDTO> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(user("stream.order." + i + "@example.com"));
+        }
+        userService.createUsers(users);
+
+        AssertSubscriber<UserChangeEvent> resumed = userChangeStream.stream(lastEventId)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        // Published while the replay query is still running
+        long liveId = Long.MAX_VALUE - 10;
+        for (int i = 0; i < 5; i++) {
+            userChangeStream.publish(new UserChangeEvent(liveId + i, UserChangeEvent.Type.UPDATED, UUID.randomUUID(), null, null));
+        }
+
+        awaitItems(resumed, 15);
+        List<Long> ids = resumed.getItems().stream().map(UserChangeEvent::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(List.of(liveId, liveId + 1, liveId + 2, liveId + 3, liveId + 4), ids.subList(10, 15));
+        resumed.cancel();
+    }
+
+    @Test
+    @DisplayName("Should fail the resume when more changes were missed than may be replayed")
+    void shouldRejectTruncatedReplay() {
+        AssertSubscriber<UserChangeEvent> live = userChangeStream.stream(null)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        UUID first = create("stream.before.gap@example.com");
+        long lastEventId = awaitEvent(live, first).getId();
+        live.cancel();
+
+        // max-replay is 20 in the test profile
+        List<UserDTO> users = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            users.add(user("stream.gap." + i + "@example.com"));
+        }
+        userService.createUsers(users);
+
+        AssertSubscriber<UserChangeEvent> resumed = userChangeStream.stream(lastEventId)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        resumed.awaitFailure(TIMEOUT);
+        assertInstanceOf(ReplayTruncatedException.class, resumed.getFailure());
+        assertTrue(resumed.getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber that does not keep up")
+    void shouldDisconnectSlowSubscriber() {
+        AssertSubscriber<UserChangeEvent> slow = userChangeStream.stream(null)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        // buffer-size is 8 in the test profile
+        for (int i = 0; i < 20; i++) {
+            userChangeStream.publish(new UserChangeEvent(-i - 1, UserChangeEvent.Type.UPDATED, UUID.randomUUID(), null, null));
+        }
+
+        slow.awaitFailure(TIMEOUT);
+        assertInstanceOf(RuntimeException.class, slow.getFailure());
+    }
+
+    private UserChangeEvent awaitEvent(AssertSubscriber<UserChangeEvent> subscriber, UUID userId) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (UserChangeEvent event : subscriber.getItems()) {
+                if (userId.equals(event.getUserId())) {
+                    return event;
+                }
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("No change event for user " + userId);
+    }
+
+    private void awaitItems(AssertSubscriber<UserChangeEvent> subscriber, int count) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (subscriber.getItems().size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Expected " + count + " change events, got " + subscriber.getItems().size());
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private UUID create(String email) {
+        return userService.createUser(user(email)).getId();
+    }
+
+    private static UserDTO user(String email) {
+        UserDTO user = new UserDTO();
+        user.setFirstName("Stream");
+        user.setLastName("Watcher");
+        user.setEmail(email);
+        user.setAddress(new AddressDTO(null, "1 Stream Street", "Odense", null, null, "Denmark"));
+        return user;
+    }
+}
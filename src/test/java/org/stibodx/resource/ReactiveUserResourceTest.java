@@ -0,0 +1,65 @@
+package org.stibodx.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+
+@QuarkusTest
+class ReactiveUserResourceTest {
+
+    @Test
+    @DisplayName("Should get user by ID on the reactive path")
+    void shouldGetUserById() {
+        given()
+        .when()
+            .get("/reactive/users/{id}", "11111111-1111-1111-1111-111111111111")
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("email", equalTo("test.user@example.com"))
+            .body("address.city", equalTo("Test City"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for non-existent user ID on the reactive path")
+    void shouldReturn404ForNonExistentUser() {
+        given()
+        .when()
+            .get("/reactive/users/{id}", UUID.randomUUID().toString())
+        .then()
+            .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Should get user by email on the reactive path")
+    void shouldGetUserByEmail() {
+        given()
+        .when()
+            .get("/reactive/users/by-email/{email}", "jane.doe@example.com")
+        .then()
+            .statusCode(200)
+            .body("firstName", equalTo("Jane"));
+    }
+
+    @Test
+    @DisplayName("Should page through users with a cursor on the reactive path")
+    void shouldPageWithCursor() {
+        given()
+            .queryParam("size", 2)
+        .when()
+            .get("/reactive/users")
+        .then()
+            .statusCode(200)
+            .body("users", hasSize(2))
+            .body("pagination.hasNext", equalTo(true))
+            .body("pagination.nextCursor", notNullValue());
+    }
+}
@@ -2,19 +2,38 @@ package org.stibodx.resource;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.TestTransaction;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
+import org.stibodx.http.Cbor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @QuarkusTest
 @TestTransaction
@@ -117,6 +136,42 @@ class UserResourceTest {
                 .statusCode(409);
         }
 
+        @Test
+        @DisplayName("Should return exactly one 201 for concurrent creates with the same email")
+        void shouldRejectConcurrentDuplicateCreates() throws Exception {
+            String userJson = """
+                {
+                    "firstName": "Race",
+                    "lastName": "Condition",
+                    "email": "race.condition@example.com"
+                }
+                """;
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Integer>> statuses = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    statuses.add(executor.submit(() -> given()
+                        .contentType(ContentType.JSON)
+                        .body(userJson)
+                    .when()
+                        .post("/users")
+                    .then()
+                        .extract()
+                        .statusCode()));
+                }
+
+                List<Integer> results = new ArrayList<>();
+                for (Future<Integer> status : statuses) {
+                    results.add(status.get(30, TimeUnit.SECONDS));
+                }
+                assertEquals(1, Collections.frequency(results, 201));
+                assertEquals(3, Collections.frequency(results, 409));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
         @Test
         @DisplayName("Should return 500 for malformed JSON")
         void shouldReturn500ForMalformedJSON() {
@@ -130,6 +185,115 @@ class UserResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Create Endpoint Tests")
+    class BatchCreateTests {
+
+        @Test
+        @DisplayName("Should report per-item results for a mixed batch")
+        void shouldReportPerItemResults() {
+            String batchJson = """
+                [
+                    {
+                        "firstName": "Batch",
+                        "lastName": "One",
+                        "email": "batch.one@example.com",
+                        "address": {
+                            "street": "1 Batch Street",
+                            "city": "Austin",
+                            "country": "USA"
+                        }
+                    },
+                    {
+                        "firstName": "Batch",
+                        "lastName": "Duplicate",
+                        "email": "batch.one@example.com"
+                    },
+                    {
+                        "firstName": "",
+                        "lastName": "Invalid",
+                        "email": "not-an-email"
+                    },
+                    {
+                        "firstName": "Existing",
+                        "lastName": "User",
+                        "email": "test.user@example.com"
+                    }
+                ]
+                """;
+
+            given()
+                .contentType(ContentType.JSON)
+                .body(batchJson)
+            .when()
+                .post("/users/batch")
+            .then()
+                .statusCode(200)
+                .body("created", equalTo(1))
+                .body("failed", equalTo(3))
+                .body("results", hasSize(4))
+                .body("results[0].status", equalTo("CREATED"))
+                .body("results[0].user.id", notNullValue())
+                .body("results[0].user.address.city", equalTo("Austin"))
+                .body("results[1].status", equalTo("CONFLICT"))
+                .body("results[2].status", equalTo("INVALID"))
+                .body("results[3].status", equalTo("CONFLICT"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an empty batch")
+        void shouldReturn400ForEmptyBatch() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("[]")
+            .when()
+                .post("/users/batch")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Get Endpoint Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should return users in request order and list missing keys")
+        void shouldLookUpUsersByIdAndEmail() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "ids": ["22222222-2222-2222-2222-222222222222", "99999999-9999-9999-9999-999999999999"],
+                        "emails": ["Test.User@example.com", "nobody@example.com"]
+                    }
+                    """)
+            .when()
+                .post("/users/_mget")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(2))
+                .body("users[0].email", equalTo("jane.doe@example.com"))
+                .body("users[1].email", equalTo("test.user@example.com"))
+                .body("users[1].address.city", equalTo("Test City"))
+                .body("missingIds", hasItem("99999999-9999-9999-9999-999999999999"))
+                .body("missingEmails", hasItem("nobody@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when no keys are given")
+        void shouldReturn400ForEmptyLookup() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{}")
+            .when()
+                .post("/users/_mget")
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Invalid batch"));
+        }
+    }
+
     @Nested
     @DisplayName("Get User Endpoint Tests")
     class GetUserTests {
@@ -288,6 +452,810 @@ class UserResourceTest {
                 .body("pagination.size", equalTo(10))
                 .body("pagination.hasNext", equalTo(false));
         }
+
+        @Test
+        @DisplayName("Should switch to keyset pagination when cursor is given")
+        void shouldUseKeysetPaginationWithCursor() {
+            String nextCursor = given()
+                .queryParam("cursor", "")
+                .queryParam("size", 1)
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(1))
+                .body("pagination.hasNext", equalTo(true))
+                .body("pagination.nextCursor", notNullValue())
+                .extract()
+                .path("pagination.nextCursor");
+
+            given()
+                .queryParam("cursor", nextCursor)
+                .queryParam("size", 1)
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(1))
+                .body("pagination.hasPrevious", equalTo(true));
+        }
+
+        @Test
+        @DisplayName("Should omit totals when includeTotal is false")
+        void shouldOmitTotalsWhenIncludeTotalIsFalse() {
+            given()
+                .queryParam("size", 2)
+                .queryParam("includeTotal", false)
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("pagination.countMode", equalTo("NONE"))
+                .body("pagination.totalElements", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for malformed cursor")
+        void shouldReturn400ForMalformedCursor() {
+            given()
+                .queryParam("cursor", "%%%")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter And Sort Tests")
+    class FilterAndSortTests {
+
+        @Test
+        @DisplayName("Should filter users by exact job")
+        void shouldFilterByJob() {
+            given()
+                .queryParam("job", "Developer")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(1))
+                .body("users[0].email", equalTo("bob.smith@example.com"))
+                .body("pagination.totalElements", equalTo(1))
+                .body("pagination.countMode", equalTo("EXACT"));
+        }
+
+        @Test
+        @DisplayName("Should filter users by address country and city")
+        void shouldFilterByAddress() {
+            given()
+                .queryParam("country", "Sample Country")
+                .queryParam("city", "Sample City")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(1))
+                .body("users[0].email", equalTo("jane.doe@example.com"))
+                .body("users[0].address.city", equalTo("Sample City"));
+        }
+
+        @Test
+        @DisplayName("Should match a case-insensitive name prefix")
+        void shouldFilterByNamePrefix() {
+            given()
+                .queryParam("name", "SMI")
+                .queryParam("fields", "email")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users.email", hasItem("bob.smith@example.com"))
+                .body("users.email", not(hasItem("jane.doe@example.com")));
+        }
+
+        @Test
+        @DisplayName("Should sort by email descending")
+        void shouldSortDescending() {
+            List<String> emails = given()
+                .queryParam("sort", "-email")
+                .queryParam("size", 100)
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .extract()
+                .path("users.email");
+
+            List<String> sorted = new ArrayList<>(emails);
+            sorted.sort(Collections.reverseOrder());
+            assertEquals(sorted, emails);
+        }
+
+        @Test
+        @DisplayName("Should apply filters in cursor mode")
+        void shouldFilterInCursorMode() {
+            given()
+                .queryParam("cursor", "")
+                .queryParam("job", "Product Manager")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users.job", everyItem(equalTo("Product Manager")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unsupported sort key or a non-default sort with a cursor")
+        void shouldReturn400ForInvalidSort() {
+            given()
+                .queryParam("sort", "password")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Invalid filter"));
+
+            given()
+                .queryParam("cursor", "")
+                .queryParam("sort", "lastName")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a malformed date bound")
+        void shouldReturn400ForMalformedDate() {
+            given()
+                .queryParam("createdFrom", "yesterday")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional GET Tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should return validators and answer 304 for a matching If-None-Match")
+        void shouldReturn304ForMatchingETag() {
+            String etag = given()
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .header("Last-Modified", notNullValue())
+                .header("Cache-Control", containsString("no-cache"))
+                .extract()
+                .header("ETag");
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+        }
+
+        @Test
+        @DisplayName("Should share the ETag between id and email lookups")
+        void shouldShareETagBetweenLookups() {
+            String byId = given()
+                .get("/users/{id}", "22222222-2222-2222-2222-222222222222")
+                .header("ETag");
+
+            given()
+                .header("If-None-Match", byId)
+            .when()
+                .get("/users/by-email/{email}", "jane.doe@example.com")
+            .then()
+                .statusCode(304);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 for If-Modified-Since at or after Last-Modified")
+        void shouldReturn304ForIfModifiedSince() {
+            String lastModified = given()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+                .header("Last-Modified");
+
+            given()
+                .header("If-Modified-Since", lastModified)
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(304);
+        }
+
+        @Test
+        @DisplayName("Should return 200 for a stale ETag")
+        void shouldReturn200ForStaleETag() {
+            given()
+                .header("If-None-Match", "\"11111111-1111-1111-1111-111111111111-ffff\"")
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .body("email", equalTo("test.user@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should use a different ETag for each field set")
+        void shouldVaryETagByFields() {
+            String full = given()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+                .header("ETag");
+            String projected = given()
+                .queryParam("fields", "id,email")
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+                .header("ETag");
+
+            assertNotEquals(full, projected);
+        }
+
+        @Test
+        @DisplayName("Should use a different ETag for each content coding")
+        void shouldVaryETagByContentCoding() {
+            String gzip = given()
+                .header("Accept-Encoding", "gzip")
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .header("Vary", containsString("Accept-Encoding"))
+                .extract()
+                .header("ETag");
+            String identity = given()
+                .header("Accept-Encoding", "identity")
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+                .header("ETag");
+
+            assertNotEquals(gzip, identity);
+            given()
+                .header("Accept-Encoding", "identity")
+                .header("If-None-Match", gzip)
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 for the ETag of a projection")
+        void shouldReturn304ForProjectedETag() {
+            String etag = given()
+                .queryParam("fields", "id,email")
+                .get("/users/by-email/{email}", "jane.doe@example.com")
+                .header("ETag");
+
+            given()
+                .queryParam("fields", "id,email")
+                .header("If-None-Match", etag)
+            .when()
+                .get("/users/{id}", "22222222-2222-2222-2222-222222222222")
+            .then()
+                .statusCode(304);
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT and PATCH /users/{id}")
+    class UpdateUserTests {
+
+        private String createUser(String email) {
+            String userJson = """
+                {
+                    "firstName": "Update",
+                    "lastName": "Target",
+                    "email": "%s",
+                    "job": "Patch Tester",
+                    "address": {
+                        "street": "1 Patch Street",
+                        "city": "Aarhus",
+                        "country": "Denmark"
+                    }
+                }
+                """.formatted(email);
+            return given()
+                .contentType(ContentType.JSON)
+                .body(userJson)
+                .post("/users")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        }
+
+        @Test
+        @DisplayName("Should merge a patch and leave other fields untouched")
+        void shouldApplyMergePatch() {
+            String id = createUser("merge.patch@example.com");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": "Architect", "address": { "city": "Odense" } }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("job", equalTo("Architect"))
+                .body("firstName", equalTo("Update"))
+                .body("address.city", equalTo("Odense"))
+                .body("address.street", equalTo("1 Patch Street"));
+
+            given()
+                .get("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .body("job", equalTo("Architect"))
+                .body("address.city", equalTo("Odense"));
+        }
+
+        @Test
+        @DisplayName("Should clear fields set to null in a patch")
+        void shouldRemoveNullMembers() {
+            String id = createUser("merge.null@example.com");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": null, "address": null }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .body("job", nullValue())
+                .body("address", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should replace a user with PUT")
+        void shouldReplaceUser() {
+            String id = createUser("put.replace@example.com");
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "firstName": "Replaced",
+                        "lastName": "User",
+                        "email": "Put.Replace@Example.com"
+                    }
+                    """)
+            .when()
+                .put("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .body("firstName", equalTo("Replaced"))
+                .body("email", equalTo("put.replace@example.com"))
+                .body("job", nullValue())
+                .body("address", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should update when If-Match carries the current ETag and change the ETag")
+        void shouldUpdateWithMatchingETag() {
+            String id = createUser("if.match@example.com");
+            String etag = given().get("/users/{id}", id).header("ETag");
+
+            String updated = given()
+                .contentType("application/merge-patch+json")
+                .header("If-Match", etag)
+                .body("""
+                    { "job": "Tester" }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+            assertNotEquals(etag, updated);
+            assertEquals(updated, given().get("/users/{id}", id).header("ETag"));
+        }
+
+        @Test
+        @DisplayName("Should change the ETag when only the address changes")
+        void shouldChangeETagOnAddressOnlyUpdate() {
+            String id = createUser("address.only@example.com");
+            String etag = given().get("/users/{id}", id).header("ETag");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .header("If-Match", etag)
+                .body("""
+                    { "address": { "postalCode": "8000" } }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .body("address.postalCode", equalTo("8000"))
+                .header("ETag", not(equalTo(etag)));
+        }
+
+        @Test
+        @DisplayName("Should return 412 for a stale If-Match")
+        void shouldRejectStaleETag() {
+            String id = createUser("stale.etag@example.com");
+            String etag = given().get("/users/{id}", id).header("ETag");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": "First writer" }
+                    """)
+                .patch("/users/{id}", id)
+                .then()
+                .statusCode(200);
+
+            given()
+                .contentType("application/merge-patch+json")
+                .header("If-Match", etag)
+                .body("""
+                    { "job": "Second writer" }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(412)
+                .body("error", equalTo("Precondition failed"));
+
+            given()
+                .get("/users/{id}", id)
+            .then()
+                .body("job", equalTo("First writer"));
+        }
+
+        @Test
+        @DisplayName("Should keep the ETag when a patch changes nothing")
+        void shouldNotBumpVersionForNoOpPatch() {
+            String id = createUser("no.op@example.com");
+            String etag = given().get("/users/{id}", id).header("ETag");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": "Patch Tester", "email": "NO.OP@example.com" }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(200)
+                .header("ETag", equalTo(etag));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the patched user is invalid")
+        void shouldValidatePatchedUser() {
+            String id = createUser("invalid.patch@example.com");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "email": "not-an-email", "firstName": null }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Validation failed"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a patch that is not an object")
+        void shouldRejectNonObjectPatch() {
+            String id = createUser("array.patch@example.com");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("[]")
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Invalid patch"));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when the new email belongs to another user")
+        void shouldRejectTakenEmail() {
+            String id = createUser("email.taken@example.com");
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "email": "test.user@example.com" }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(409);
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown user")
+        void shouldReturn404ForUnknownUser() {
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": "Ghost" }
+                    """)
+            .when()
+                .patch("/users/{id}", UUID.randomUUID())
+            .then()
+                .statusCode(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /users/{id}")
+    class DeleteUserTests {
+
+        private String createUser(String email) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "firstName": "Delete",
+                        "lastName": "Target",
+                        "email": "%s",
+                        "address": {
+                            "street": "1 Tombstone Road",
+                            "city": "Aalborg",
+                            "country": "Denmark"
+                        }
+                    }
+                    """.formatted(email))
+                .post("/users")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        }
+
+        @Test
+        @DisplayName("Should hide a deleted user from every read")
+        void shouldHideDeletedUser() {
+            String id = createUser("soft.delete@example.com");
+            given().get("/users/{id}", id).then().statusCode(200);
+
+            given()
+            .when()
+                .delete("/users/{id}", id)
+            .then()
+                .statusCode(204);
+
+            given().get("/users/{id}", id).then().statusCode(404);
+            given().get("/users/by-email/{email}", "soft.delete@example.com").then().statusCode(404);
+            given().get("/reactive/users/{id}", id).then().statusCode(404);
+            given()
+                .queryParam("q", "soft.delete")
+                .get("/users/search")
+            .then()
+                .statusCode(200)
+                .body("users.id", not(hasItem(id)));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when deleting twice or an unknown user")
+        void shouldReturn404ForMissingUser() {
+            String id = createUser("delete.twice@example.com");
+            given().delete("/users/{id}", id).then().statusCode(204);
+
+            given().delete("/users/{id}", id).then().statusCode(404);
+            given().delete("/users/{id}", UUID.randomUUID()).then().statusCode(404);
+        }
+
+        @Test
+        @DisplayName("Should let a deleted user's email be registered again")
+        void shouldReuseEmailOfDeletedUser() {
+            String id = createUser("reuse.email@example.com");
+            given().delete("/users/{id}", id).then().statusCode(204);
+
+            String recreated = createUser("reuse.email@example.com");
+
+            assertNotEquals(id, recreated);
+        }
+
+        @Test
+        @DisplayName("Should not update a deleted user")
+        void shouldNotPatchDeletedUser() {
+            String id = createUser("patch.deleted@example.com");
+            given().delete("/users/{id}", id).then().statusCode(204);
+
+            given()
+                .contentType("application/merge-patch+json")
+                .body("""
+                    { "job": "Ghost" }
+                    """)
+            .when()
+                .patch("/users/{id}", id)
+            .then()
+                .statusCode(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Endpoint Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should find users by a partial name")
+        void shouldFindUsersByPartialName() {
+            given()
+                .queryParam("q", "smi")
+            .when()
+                .get("/users/search")
+            .then()
+                .statusCode(200)
+                .body("users.email", hasItem("bob.smith@example.com"))
+                .body("users.email", not(hasItem("test.user@example.com")))
+                .body("pagination.countMode", equalTo("NONE"));
+        }
+
+        @Test
+        @DisplayName("Should rank the closest match first")
+        void shouldRankClosestMatchFirst() {
+            given()
+                .queryParam("q", "jane doe")
+            .when()
+                .get("/users/search")
+            .then()
+                .statusCode(200)
+                .body("users[0].email", equalTo("jane.doe@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should match on job")
+        void shouldMatchOnJob() {
+            given()
+                .queryParam("q", "developer")
+                .queryParam("size", 100)
+            .when()
+                .get("/users/search")
+            .then()
+                .statusCode(200)
+                .body("users.email", hasItem("bob.smith@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a query that is too short")
+        void shouldReturn400ForShortQuery() {
+            given()
+                .queryParam("q", "a")
+            .when()
+                .get("/users/search")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Field Projection Tests")
+    class FieldProjectionTests {
+
+        @Test
+        @DisplayName("Should return only the requested fields for a single user")
+        void shouldReturnOnlyRequestedFields() {
+            given()
+                .queryParam("fields", "id,email,firstName")
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .body("id", equalTo("11111111-1111-1111-1111-111111111111"))
+                .body("email", equalTo("test.user@example.com"))
+                .body("firstName", equalTo("Test"))
+                .body("lastName", nullValue())
+                .body("createdAt", nullValue())
+                .body("address", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should include the nested address when requested")
+        void shouldIncludeAddressWhenRequested() {
+            given()
+                .queryParam("fields", "email,address")
+            .when()
+                .get("/users/by-email/{email}", "test.user@example.com")
+            .then()
+                .statusCode(200)
+                .body("address.city", equalTo("Test City"))
+                .body("id", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should project every user of a page")
+        void shouldProjectPages() {
+            given()
+                .queryParam("fields", "id,lastName")
+                .queryParam("size", 2)
+                .queryParam("cursor", "")
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .body("users", hasSize(2))
+                .body("users[0].id", notNullValue())
+                .body("users[0].email", nullValue())
+                .body("pagination.nextCursor", notNullValue());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void shouldReturn400ForUnknownField() {
+            given()
+                .queryParam("fields", "id,password")
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Endpoint Tests")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Should stream users as NDJSON")
+        void shouldStreamUsersAsNdjson() {
+            String body = given()
+            .when()
+                .get("/users/export")
+            .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+            String[] lines = body.split("\n");
+            assertTrue(lines.length >= 3);
+            assertTrue(body.contains("\"email\":\"test.user@example.com\""));
+        }
+
+        @Test
+        @DisplayName("Should stream users as CSV with a header row")
+        void shouldStreamUsersAsCsv() {
+            String body = given()
+                .queryParam("format", "csv")
+            .when()
+                .get("/users/export")
+            .then()
+                .statusCode(200)
+                .contentType("text/csv")
+                .extract()
+                .asString();
+
+            assertTrue(body.startsWith("id,firstName,lastName"));
+            assertTrue(body.contains("test.user@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown export format")
+        void shouldRejectUnknownFormat() {
+            given()
+                .queryParam("format", "xml")
+            .when()
+                .get("/users/export")
+            .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("error", equalTo("Invalid export format"));
+        }
     }
 
     @Nested
@@ -315,6 +1283,87 @@ class UserResourceTest {
             .then()
                 .statusCode(200);
         }
+
+        @Test
+        @DisplayName("Should return CBOR when requested")
+        void shouldReturnCborWhenRequested() throws Exception {
+            byte[] body = given()
+                .accept(Cbor.MEDIA_TYPE)
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .contentType(Cbor.MEDIA_TYPE)
+                .header("Vary", containsString("Accept"))
+                .extract()
+                .asByteArray();
+
+            JsonNode user = Cbor.mapper().readTree(body);
+            assertEquals("test.user@example.com", user.get("email").asText());
+            assertEquals("Test City", user.get("address").get("city").asText());
+        }
+
+        @Test
+        @DisplayName("Should return a CBOR page smaller than the JSON page")
+        void shouldReturnCompactCborPage() throws Exception {
+            byte[] json = given()
+                .queryParam("size", 100)
+                .get("/users")
+                .asByteArray();
+            byte[] cbor = given()
+                .accept(Cbor.MEDIA_TYPE)
+                .queryParam("size", 100)
+                .get("/users")
+                .asByteArray();
+
+            JsonNode page = Cbor.mapper().readTree(cbor);
+            assertTrue(page.get("users").size() > 0);
+            assertTrue(cbor.length < json.length, "CBOR page should be smaller than JSON");
+        }
+
+        @Test
+        @DisplayName("Should gzip large pages and leave small bodies uncompressed")
+        void shouldCompressAboveThreshold() {
+            RestAssuredConfig raw = RestAssuredConfig.config()
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+            given()
+                .config(raw)
+                .header("Accept-Encoding", "gzip")
+                .queryParam("size", 100)
+            .when()
+                .get("/users")
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"));
+
+            given()
+                .config(raw)
+                .header("Accept-Encoding", "gzip")
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Stream Tests")
+    class ChangeStreamTests {
+
+        @Test
+        @DisplayName("Should reject a Last-Event-ID that is not an event id")
+        void shouldRejectInvalidLastEventId() {
+            given()
+                .accept("text/event-stream")
+                .header("Last-Event-ID", "not-a-number")
+            .when()
+                .get("/users/stream")
+            .then()
+                .statusCode(400)
+                .body("error", equalTo("Invalid cursor"));
+        }
     }
 
     @Nested
@@ -332,6 +1381,38 @@ class UserResourceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should expose service timers, error counters and statement counts")
+        void shouldExposeMetrics() {
+            given()
+            .when()
+                .get("/users/{id}", "11111111-1111-1111-1111-111111111111")
+            .then()
+                .statusCode(200);
+
+            given()
+            .when()
+                .get("/users/{id}", UUID.randomUUID().toString())
+            .then()
+                .statusCode(404);
+
+            given()
+            .when()
+                .get("/q/metrics")
+            .then()
+                .statusCode(200)
+                .body(containsString("users_service_seconds_bucket"))
+                .body(containsString("users_errors_total{exception=\"UserNotFoundException\""))
+                .body(containsString("http_server_db_statements"))
+                .body(containsString("cache_gets_total{cache=\"users-by-id\""))
+                .body(containsString("cache_gets_total{cache=\"users-by-email\""));
+        }
+    }
+
     @Nested
     @DisplayName("Health Check Tests")
     class HealthCheckTests {
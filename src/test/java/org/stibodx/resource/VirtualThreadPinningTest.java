@@ -0,0 +1,82 @@
+package org.stibodx.resource;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.stibodx.service.UserCounter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Fails if any of the virtual-thread endpoints pins its carrier thread,
+ * e.g. by blocking on JDBC inside a synchronized block.
+ * <p>
+ * The requests commit on the server, so a test transaction cannot roll them back; the
+ * user and its outbox event are deleted after each test instead, so they do not leak
+ * into the counts, relay and stream tests sharing this application.
+ */
+@QuarkusTest
+@VirtualThreadUnit
+@ShouldNotPin
+class VirtualThreadPinningTest {
+
+    private static final String EMAIL = "virtual.thread@example.com";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    UserCounter userCounter;
+
+    @AfterEach
+    void deleteCreatedUser() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : new String[] {
+                    "DELETE FROM outbox_events WHERE user_id IN (SELECT id FROM users WHERE email = ?)",
+                    "DELETE FROM addresses WHERE user_id IN (SELECT id FROM users WHERE email = ?)",
+                    "DELETE FROM users WHERE email = ?"}) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, EMAIL);
+                    statement.executeUpdate();
+                }
+            }
+        }
+        userCounter.invalidate();
+    }
+
+    @Test
+    @DisplayName("Should not pin when reading users")
+    void shouldNotPinOnReads() {
+        given().when().get("/users/{id}", "11111111-1111-1111-1111-111111111111").then().statusCode(200);
+        given().when().get("/users/by-email/{email}", "jane.doe@example.com").then().statusCode(200);
+        given().queryParam("size", 2).when().get("/users").then().statusCode(200);
+    }
+
+    @Test
+    @DisplayName("Should not pin when creating a user")
+    void shouldNotPinOnCreate() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "firstName": "Virtual",
+                    "lastName": "Thread",
+                    "email": "%s"
+                }
+                """.formatted(EMAIL))
+        .when()
+            .post("/users")
+        .then()
+            .statusCode(201);
+    }
+}
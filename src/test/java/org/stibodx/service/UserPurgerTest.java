@@ -0,0 +1,86 @@
+package org.stibodx.service;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.stibodx.dto.AddressDTO;
+import org.stibodx.dto.UserDTO;
+
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs without a test transaction: each purge chunk commits on its own and only
+ * sees committed tombstones. Row counts are read with plain JDBC, which does not
+ * apply the soft delete restriction.
+ */
+@QuarkusTest
+class UserPurgerTest {
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserPurger userPurger;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    @DisplayName("Should hard-delete expired tombstones with their addresses")
+    void shouldPurgeExpiredTombstones() throws SQLException {
+        UUID deleted = create("purge.me@example.com");
+        UUID live = create("keep.me@example.com");
+        userService.deleteUser(deleted);
+
+        assertEquals(1, rows("SELECT count(*) FROM users WHERE id = ?", deleted));
+
+        long purged = userPurger.purge(Duration.ZERO);
+
+        assertTrue(purged >= 1);
+        assertEquals(0, rows("SELECT count(*) FROM users WHERE id = ?", deleted));
+        assertEquals(0, rows("SELECT count(*) FROM addresses WHERE user_id = ?", deleted));
+        assertEquals(1, rows("SELECT count(*) FROM users WHERE id = ?", live));
+        assertEquals(1, rows("SELECT count(*) FROM addresses WHERE user_id = ?", live));
+    }
+
+    @Test
+    @DisplayName("Should keep tombstones younger than the retention")
+    void shouldKeepRecentTombstones() throws SQLException {
+        UUID deleted = create("recently.deleted@example.com");
+        userService.deleteUser(deleted);
+
+        userPurger.purge(Duration.ofDays(1));
+
+        assertEquals(1, rows("SELECT count(*) FROM users WHERE id = ?", deleted));
+    }
+
+    private UUID create(String email) {
+        UserDTO user = new UserDTO();
+        user.setFirstName("Purge");
+        user.setLastName("Candidate");
+        user.setEmail(email);
+        user.setAddress(new AddressDTO(null, "1 Purge Lane", "Esbjerg", null, null, "Denmark"));
+        return userService.createUser(user).getId();
+    }
+
+    private long rows(String sql, UUID id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.stibodx.service;
 
+import io.agroal.api.AgroalDataSource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.TestTransaction;
 import org.junit.jupiter.api.Test;
@@ -7,18 +8,47 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.stibodx.dto.UserDTO;
+import org.stibodx.dto.UserLookupRequest;
+import org.stibodx.dto.UserLookupResult;
 import org.stibodx.dto.PagedResult;
+import org.stibodx.dto.CountMode;
 import org.stibodx.exception.UserNotFoundException;
 import org.stibodx.exception.InvalidEmailException;
 import org.stibodx.exception.UserAlreadyExistsException;
+import org.stibodx.exception.InvalidBatchException;
+import org.stibodx.exception.InvalidCursorException;
+import org.stibodx.exception.PreconditionFailedException;
+import org.stibodx.entity.User;
+import org.stibodx.metrics.StatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,6 +60,21 @@ class UserServiceTest {
     @Inject
     UserService userService;
 
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    UserCache userCache;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    AgroalDataSource dataSource;
+
     private UserDTO testUserDTO;
     private UUID testUserId;
 
@@ -92,6 +137,60 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Create Tests")
+    class BatchCreateTests {
+
+        @Test
+        @DisplayName("Should reject the batch with a conflict when an email is taken concurrently")
+        void shouldMapConcurrentEmailConflict() throws Exception {
+            String email = "batch.race@example.com";
+            UUID racingId = UUID.randomUUID();
+            CountDownLatch inserted = new CountDownLatch(1);
+            // Uncommitted while the batch checks for existing emails, committed while its
+            // flush waits on the unique index. Runs off the test transaction's thread so
+            // the connection is not enlisted in it.
+            CompletableFuture<Void> concurrent = CompletableFuture.runAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            "INSERT INTO users (id, first_name, last_name, email, created_at, updated_at) "
+                                    + "VALUES (?, 'Race', 'Winner', ?, NOW(), NOW())")) {
+                        statement.setObject(1, racingId);
+                        statement.setString(2, email);
+                        statement.executeUpdate();
+                    }
+                    inserted.countDown();
+                    Thread.sleep(500);
+                    connection.commit();
+                } catch (SQLException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            try {
+                inserted.await();
+                UserDTO racing = new UserDTO();
+                racing.setFirstName("Race");
+                racing.setLastName("Loser");
+                racing.setEmail(email);
+
+                assertThrows(UserAlreadyExistsException.class, () -> userService.createUsers(List.of(racing)));
+                concurrent.join();
+            } finally {
+                CompletableFuture.runAsync(() -> {
+                    try (Connection connection = dataSource.getConnection();
+                         PreparedStatement statement = connection.prepareStatement("DELETE FROM users WHERE id = ?")) {
+                        statement.setObject(1, racingId);
+                        statement.executeUpdate();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).join();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Find User Tests")
     class FindUserTests {
@@ -279,5 +378,398 @@ class UserServiceTest {
             assertTrue(result.getPagination().isHasPrevious());
             assertFalse(result.getPagination().isHasNext());
         }
+
+        @Test
+        @DisplayName("Should report the count mode that produced the total")
+        void shouldReportCountMode() {
+            PagedResult<UserDTO> result = userService.findAllPaginated(0, 2);
+
+            assertEquals(CountMode.EXACT, result.getPagination().getCountMode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should return first page and a next cursor")
+        void shouldReturnFirstPageWithNextCursor() {
+            PagedResult<UserDTO> result = userService.findAllByCursor(null, 2);
+
+            assertNotNull(result);
+            assertEquals(2, result.getUsers().size());
+            assertTrue(result.getPagination().isHasNext());
+            assertFalse(result.getPagination().isHasPrevious());
+            assertNotNull(result.getPagination().getNextCursor());
+            assertNull(result.getPagination().getTotalElements());
+        }
+
+        @Test
+        @DisplayName("Should walk all pages without duplicates")
+        void shouldWalkAllPagesWithoutDuplicates() {
+            userService.createUser(testUserDTO);
+            int expected = userService.findAll().size();
+
+            List<UUID> seen = new ArrayList<>();
+            String cursor = "";
+            do {
+                PagedResult<UserDTO> result = userService.findAllByCursor(cursor, 2);
+                result.getUsers().forEach(user -> seen.add(user.getId()));
+                cursor = result.getPagination().getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(expected, seen.size());
+            assertEquals(expected, new HashSet<>(seen).size());
+        }
+
+        @Test
+        @DisplayName("Should throw exception for malformed cursor")
+        void shouldThrowExceptionForMalformedCursor() {
+            assertThrows(InvalidCursorException.class,
+                () -> userService.findAllByCursor("not-a-cursor", 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement Count Tests")
+    class StatementCountTests {
+
+        @Test
+        @DisplayName("Should load a page of users and addresses without N+1 selects")
+        void shouldLoadPageWithConstantStatementCount() {
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            PagedResult<UserDTO> result = userService.findAllPaginated(0, 10);
+
+            assertTrue(result.getUsers().stream().anyMatch(user -> user.getAddress() != null));
+            // One count query plus one page query, regardless of page size
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should skip the count query when totals are not requested")
+        void shouldSkipCountQueryWhenTotalNotRequested() {
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            PagedResult<UserDTO> result = userService.findAllPaginated(0, 2, false);
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(CountMode.NONE, result.getPagination().getCountMode());
+            assertNull(result.getPagination().getTotalElements());
+            assertNull(result.getPagination().getTotalPages());
+            assertTrue(result.getPagination().isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should create a user without a duplicate-check query")
+        void shouldCreateUserWithoutPreCheckQuery() {
+            List<String> statements = StatementCounter.capture(() -> userService.createUser(testUserDTO));
+
+            // Duplicates are rejected by the unique constraint. The outbox INSERT and the
+            // pooled sequence's nextval depend on flush timing and test order, so only the
+            // users statements are asserted.
+            List<String> users = statements.stream()
+                    .map(sql -> sql.toLowerCase(Locale.ROOT))
+                    .filter(sql -> sql.matches("(?s).*\\busers\\b.*"))
+                    .toList();
+            assertTrue(users.stream().noneMatch(sql -> sql.startsWith("select")), users::toString);
+            assertEquals(1, users.stream().filter(sql -> sql.startsWith("insert into users")).count());
+        }
+
+        @Test
+        @DisplayName("Should load a cursor page in a single statement")
+        void shouldLoadCursorPageInSingleStatement() {
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            userService.findAllByCursor(null, 10);
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Get Tests")
+    class LookupTests {
+
+        private final UUID janeId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+        private final UUID bobId = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+        @Test
+        @DisplayName("Should resolve ids and emails in one statement, in request order")
+        void shouldResolveKeysInOneStatement() {
+            UUID unknownId = UUID.randomUUID();
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            UserLookupResult result = userService.findAllByKeys(new UserLookupRequest(
+                    List.of(bobId, unknownId, testUserId),
+                    List.of("JANE.DOE@example.com", "nobody@example.com", "bob.smith@example.com")));
+
+            // Users and addresses come back in a single SELECT, whatever the number of keys
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(List.of(bobId, testUserId, janeId),
+                    result.getUsers().stream().map(UserDTO::getId).toList());
+            assertNotNull(result.getUsers().get(1).getAddress());
+            assertEquals(List.of(unknownId), result.getMissingIds());
+            assertEquals(List.of("nobody@example.com"), result.getMissingEmails());
+        }
+
+        @Test
+        @DisplayName("Should reject an empty lookup")
+        void shouldRejectEmptyLookup() {
+            assertThrows(InvalidBatchException.class,
+                    () -> userService.findAllByKeys(new UserLookupRequest(List.of(), null)));
+        }
+    }
+
+    @Nested
+    @DisplayName("User Cache Tests")
+    class UserCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups by id from the cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            userCache.invalidateAll();
+            userService.findById(testUserId);
+            long hitsBefore = userCache.stats().hitCount();
+
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+            UserDTO cachedUser = userService.findById(testUserId);
+
+            assertEquals(testUserId, cachedUser.getId());
+            assertEquals(hitsBefore + 1, userCache.stats().hitCount());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should count email misses and leave the stats alone on peeks")
+        void shouldRecordCacheStats() {
+            userCache.invalidateAll();
+            long emailMissesBefore = userCache.emailStats().missCount();
+            userService.findByEmail("test.user@example.com");
+            assertEquals(emailMissesBefore + 1, userCache.emailStats().missCount());
+
+            CacheStats byIdBefore = userCache.stats();
+            CacheStats byEmailBefore = userCache.emailStats();
+            assertNotNull(userCache.peekById(testUserId));
+            assertNull(userCache.peekById(UUID.randomUUID()));
+            assertNotNull(userCache.peekByEmail("test.user@example.com"));
+
+            assertEquals(byIdBefore, userCache.stats());
+            assertEquals(byEmailBefore, userCache.emailStats());
+        }
+
+        @Test
+        @DisplayName("Should resolve email lookups case-insensitively through the cache")
+        void shouldServeEmailLookupsFromCache() {
+            userCache.invalidateAll();
+            userService.findByEmail("test.user@example.com");
+
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+            UserDTO cachedUser = userService.findByEmail("Test.User@example.com");
+
+            assertEquals(testUserId, cachedUser.getId());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should cache the serialized JSON with the user")
+        void shouldCacheSerializedJson() {
+            byte[] first = userService.findCachedById(testUserId).json();
+            byte[] second = userService.findCachedById(testUserId).json();
+
+            assertNotNull(first);
+            assertTrue(new String(first, StandardCharsets.UTF_8).contains("test.user@example.com"));
+            assertSame(first, second, "Hot reads should reuse the serialized bytes");
+        }
+
+        @Test
+        @DisplayName("Should read the version with one query on a cache miss and none on a hit")
+        void shouldReadVersionCheaply() {
+            userCache.invalidateAll();
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+            UserVersion fromDatabase = userService.findVersionById(testUserId);
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+
+            userService.findById(testUserId);
+            statistics.clear();
+            UserVersion fromCache = userService.findVersionByEmail("TEST.USER@example.com");
+
+            assertEquals(0, statistics.getPrepareStatementCount());
+            assertEquals(fromDatabase, fromCache);
+            assertEquals(fromDatabase.tag(), fromCache.tag());
+        }
+    }
+
+    @Nested
+    @DisplayName("Email Normalization Tests")
+    class EmailNormalizationTests {
+
+        @Test
+        @DisplayName("Should store emails lower-cased and find them regardless of case")
+        void shouldStoreNormalizedEmail() {
+            testUserDTO.setEmail("Mixed.Case@Example.com");
+
+            UserDTO createdUser = userService.createUser(testUserDTO);
+
+            assertEquals("mixed.case@example.com", createdUser.getEmail());
+            userCache.invalidateAll();
+            assertEquals(createdUser.getId(), userService.findByEmail("MIXED.CASE@example.com").getId());
+        }
+
+        @Test
+        @DisplayName("Should reject emails that differ only in case")
+        void shouldRejectCaseVariantDuplicates() {
+            testUserDTO.setEmail("case.variant@example.com");
+            userService.createUser(testUserDTO);
+
+            UserDTO variant = new UserDTO();
+            variant.setFirstName("Case");
+            variant.setLastName("Variant");
+            variant.setEmail("Case.Variant@Example.com");
+
+            assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(variant));
+        }
+
+        @Test
+        @DisplayName("Should resolve email lookups through the unique email index")
+        void shouldUseEmailIndexForLookup() {
+            // The test table is tiny, so take sequential scans off the table to see
+            // whether an index path exists at all
+            entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+            List<?> plan = entityManager
+                .createNativeQuery("EXPLAIN SELECT * FROM users WHERE email = 'test.user@example.com' AND deleted_at IS NULL")
+                .getResultList();
+
+            String explained = plan.stream().map(Object::toString).collect(Collectors.joining("\n"));
+            assertTrue(explained.contains("Index Scan using uk_users_email")
+                    || explained.contains("Index Only Scan using uk_users_email"), explained);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update User Tests")
+    class UpdateUserTests {
+
+        private User load(UUID id) {
+            return User.findById(id);
+        }
+
+        @Test
+        @DisplayName("Should write one UPDATE and increment the version for a changed field")
+        void shouldIncrementVersionOnChange() throws Exception {
+            long version = load(testUserId).getVersion();
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            UserDTO updated = userService.patchUser(testUserId, objectMapper.readTree("{\"job\": \"Staff Engineer\"}"), null);
+
+            assertEquals("Staff Engineer", updated.getJob());
+            assertEquals("Test", updated.getFirstName());
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(version + 1, load(testUserId).getVersion());
+        }
+
+        @Test
+        @DisplayName("Should write only the changed columns")
+        void shouldUpdateOnlyChangedColumns() throws Exception {
+            JsonNode patch = objectMapper.readTree("{\"job\": \"Principal Engineer\"}");
+
+            List<String> statements = StatementCounter.capture(() -> userService.patchUser(testUserId, patch, null));
+
+            List<String> updates = statements.stream()
+                    .map(sql -> sql.toLowerCase(Locale.ROOT))
+                    .filter(sql -> sql.startsWith("update users "))
+                    .toList();
+            assertEquals(1, updates.size(), String.join("\n", statements));
+            String update = updates.get(0);
+            Set<String> columns = Arrays.stream(update.substring(update.indexOf(" set ") + 5, update.indexOf(" where "))
+                            .split(","))
+                    .map(assignment -> assignment.substring(0, assignment.indexOf('=')).trim())
+                    .collect(Collectors.toSet());
+            // @DynamicUpdate: no first_name, email, date_of_birth, ... in the SET list
+            assertEquals(Set.of("job", "updated_at", "version"), columns, update);
+        }
+
+        @Test
+        @DisplayName("Should not write anything for a patch that changes nothing")
+        void shouldSkipUpdateWhenNothingChanged() throws Exception {
+            long version = load(testUserId).getVersion();
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            userService.patchUser(testUserId,
+                    objectMapper.readTree("{\"job\": \"Test Engineer\", \"email\": \"TEST.USER@example.com\"}"), null);
+
+            assertEquals(0, statistics.getEntityUpdateCount());
+            assertEquals(version, load(testUserId).getVersion());
+        }
+
+        @Test
+        @DisplayName("Should bump the user version and updatedAt when only the address changes")
+        void shouldTouchUserOnAddressChange() throws Exception {
+            User before = load(testUserId);
+            long version = before.getVersion();
+            UserVersion tag = new UserVersion(testUserId, version, before.getUpdatedAt());
+
+            UserDTO updated = userService.patchUser(testUserId,
+                    objectMapper.readTree("{\"address\": {\"city\": \"Patched City\"}}"), null);
+
+            assertEquals("Patched City", updated.getAddress().getCity());
+            assertEquals("123 Test St", updated.getAddress().getStreet());
+            assertEquals(version + 1, load(testUserId).getVersion());
+            assertNotEquals(tag.tag(), new UserVersion(testUserId, load(testUserId).getVersion(), updated.getUpdatedAt()).tag());
+        }
+
+        @Test
+        @DisplayName("Should change the tag with the version even when updatedAt does not move")
+        void shouldTagByVersion() {
+            User user = load(testUserId);
+            UserVersion current = new UserVersion(testUserId, user.getVersion(), user.getUpdatedAt());
+            UserVersion next = new UserVersion(testUserId, user.getVersion() + 1, user.getUpdatedAt());
+
+            assertNotEquals(current.tag(), next.tag());
+            assertFalse(next.matches(current.tag()));
+            userCache.invalidateAll();
+            assertEquals(current.tag(), userService.findVersionById(testUserId).tag());
+        }
+
+        @Test
+        @DisplayName("Should reject an update whose expected tag is stale")
+        void shouldRejectStaleTag() throws Exception {
+            Set<String> stale = Set.of(testUserId + "-ffff");
+
+            assertThrows(PreconditionFailedException.class,
+                    () -> userService.patchUser(testUserId, objectMapper.readTree("{\"job\": \"Nope\"}"), stale));
+        }
+
+        @Test
+        @DisplayName("Should accept the current tag of any representation")
+        void shouldAcceptCurrentTag() throws Exception {
+            User user = load(testUserId);
+            UserVersion current = new UserVersion(testUserId, user.getVersion(), user.getUpdatedAt());
+
+            UserDTO replacement = userService.findById(testUserId);
+            UserDTO updated = userService.replaceUser(testUserId, copyWithJob(replacement, "Replaced"),
+                    Set.of(current.tag() + "-cbor"));
+
+            assertEquals("Replaced", updated.getJob());
+        }
+
+        private UserDTO copyWithJob(UserDTO source, String job) {
+            UserDTO copy = objectMapper.convertValue(source, UserDTO.class);
+            copy.setJob(job);
+            return copy;
+        }
     }
-}
\ No newline at end of file
+}